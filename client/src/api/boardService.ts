@@ -1,17 +1,20 @@
 import { apiClient } from "./client";
-import type { Page, Pageable } from "../types/common.types";
+import { useAuthStore } from "../store/authStore";
+import type { CursorPage, Page, Pageable } from "../types/common.types";
 import type {
   Post,
+  PostListItem,
   PostCreateRequest,
   PostUpdateRequest,
   Comment,
+  CommentFeedEvent,
   CommentCreateRequest,
   CommentUpdateRequest,
 } from "../types/board.types";
 
 const boardService = {
   // 게시글 목록 조회
-  getPosts: async (pageable: Pageable): Promise<Page<Post>> => {
+  getPosts: async (pageable: Pageable): Promise<Page<PostListItem>> => {
     const { page, size, sort } = pageable;
     const response = await apiClient.get("/board/posts", {
       params: { page, size, sort },
@@ -48,6 +51,84 @@ const boardService = {
     await apiClient.delete(`/board/posts/${postId}`);
   },
 
+  // 댓글 목록 조회 (커서 기반)
+  getComments: async ({
+    postId,
+    cursor,
+    size,
+  }: {
+    postId: number;
+    cursor?: string | null;
+    size?: number;
+  }): Promise<CursorPage<Comment>> => {
+    const response = await apiClient.get(`/board/posts/${postId}/comments`, {
+      params: { cursor: cursor ?? undefined, size },
+    });
+    return response.data;
+  },
+
+  // 실시간 댓글 피드 구독 (SSE), 반환된 함수를 호출하면 구독 종료
+  // EventSource는 Authorization 헤더를 보낼 수 없어서 fetch 스트림으로 직접 읽음
+  subscribeComments: (
+    postId: number,
+    onEvent: (event: CommentFeedEvent) => void
+  ): (() => void) => {
+    const controller = new AbortController();
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const { accessToken } = useAuthStore.getState();
+          const response = await fetch(
+            `${apiClient.defaults.baseURL}/board/posts/${postId}/comments/stream`,
+            {
+              headers: accessToken
+                ? { Authorization: `Bearer ${accessToken}` }
+                : undefined,
+              credentials: "include",
+              signal: controller.signal,
+            }
+          );
+          if (!response.ok || !response.body) {
+            throw new Error(`comment feed ${response.status}`);
+          }
+
+          const reader = response.body
+            .pipeThrough(new TextDecoderStream())
+            .getReader();
+          let buffer = "";
+          for (;;) {
+            const { value, done } = await reader.read();
+            if (done) break;
+            buffer += value;
+            // 이벤트는 빈 줄로 구분됨
+            let boundary = buffer.indexOf("\n\n");
+            while (boundary >= 0) {
+              const block = buffer.slice(0, boundary);
+              buffer = buffer.slice(boundary + 2);
+              const data = block
+                .split("\n")
+                .filter((line) => line.startsWith("data:"))
+                .map((line) => line.slice(5))
+                .join("\n");
+              if (data && block.includes("event:comment-")) {
+                onEvent(JSON.parse(data) as CommentFeedEvent);
+              }
+              boundary = buffer.indexOf("\n\n");
+            }
+          }
+        } catch {
+          if (controller.signal.aborted) return;
+        }
+        // 연결이 끊기면 잠시 후 재연결
+        await new Promise((resolve) => setTimeout(resolve, 3000));
+      }
+    };
+
+    connect();
+    return () => controller.abort();
+  },
+
   // 댓글 생성
   createComment: async ({
     postId,
@@ -1,8 +1,12 @@
 import { apiClient } from "./client";
 import {
   type ProfileUpdateRequest,
+  type UserCommentSummary,
+  type UserPostSummary,
   type UserProfile,
+  type UserStats,
 } from "../types/user.types";
+import { type CursorPage } from "../types/common.types";
 
 // 내 프로필 정보 조회
 export const getMyProfile = async (): Promise<UserProfile> => {
@@ -10,6 +14,45 @@ export const getMyProfile = async (): Promise<UserProfile> => {
   return response.data;
 };
 
+/**
+ * 내가 작성한 게시글 (최신순 커서 페이지)
+ * @param cursor - 이전 응답의 nextCursor (첫 페이지는 생략)
+ */
+export const getMyPosts = async (
+  cursor?: string | null,
+  size?: number
+): Promise<CursorPage<UserPostSummary>> => {
+  const response = await apiClient.get<CursorPage<UserPostSummary>>(
+    "/users/me/posts",
+    { params: { cursor: cursor ?? undefined, size } }
+  );
+  return response.data;
+};
+
+/**
+ * 내가 작성한 댓글 (최신순 커서 페이지, 원글 제목 포함)
+ * @param cursor - 이전 응답의 nextCursor (첫 페이지는 생략)
+ */
+export const getMyComments = async (
+  cursor?: string | null,
+  size?: number
+): Promise<CursorPage<UserCommentSummary>> => {
+  const response = await apiClient.get<CursorPage<UserCommentSummary>>(
+    "/users/me/comments",
+    { params: { cursor: cursor ?? undefined, size } }
+  );
+  return response.data;
+};
+
+/**
+ * 사용자 활동 통계 (작성자 카드)
+ * @param userId - 사용자 ID
+ */
+export const getUserStats = async (userId: string): Promise<UserStats> => {
+  const response = await apiClient.get<UserStats>(`/users/${userId}/stats`);
+  return response.data;
+};
+
 /**
  * 내 프로필 정보를 수정
  * @param data - 수정할 닉네임 정보
@@ -1,11 +1,25 @@
-import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
-import { getMyProfile, updateMyProfile } from "../../api/userService";
+import {
+  useInfiniteQuery,
+  useMutation,
+  useQuery,
+  useQueryClient,
+} from "@tanstack/react-query";
+import {
+  getMyComments,
+  getMyPosts,
+  getMyProfile,
+  getUserStats,
+  updateMyProfile,
+} from "../../api/userService";
 import { type ProfileUpdateRequest } from "../../types/user.types";
 import { toast } from "react-toastify";
 
 export const userKeys = {
   all: ["user"] as const,
   profile: () => [...userKeys.all, "profile"] as const,
+  posts: () => [...userKeys.all, "posts"] as const,
+  comments: () => [...userKeys.all, "comments"] as const,
+  stats: (userId: string) => [...userKeys.all, "stats", userId] as const,
 };
 
 export const useUserProfile = () => {
@@ -15,6 +29,36 @@ export const useUserProfile = () => {
   });
 };
 
+// 내가 작성한 게시글, "더 보기"마다 다음 커서 페이지를 이어 붙임
+export const useMyPosts = () => {
+  return useInfiniteQuery({
+    queryKey: userKeys.posts(),
+    queryFn: ({ pageParam }) => getMyPosts(pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+  });
+};
+
+// 내가 작성한 댓글
+export const useMyComments = () => {
+  return useInfiniteQuery({
+    queryKey: userKeys.comments(),
+    queryFn: ({ pageParam }) => getMyComments(pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+  });
+};
+
+// 작성자 카드의 활동 통계
+export const useUserStats = (userId?: string) => {
+  return useQuery({
+    queryKey: userKeys.stats(userId ?? ""),
+    queryFn: () => getUserStats(userId!),
+    enabled: !!userId,
+    staleTime: 30_000,
+  });
+};
+
 export const useUpdateProfile = () => {
   const queryClient = useQueryClient();
 
@@ -223,6 +223,9 @@ const BoardPage = () => {
                       <span className="bg-gray-100 px-2 py-1 rounded-md">
                         조회 {post.viewCount}
                       </span>
+                      <span className="bg-gray-100 px-2 py-1 rounded-md">
+                        댓글 {post.commentCount}
+                      </span>
                     </div>
                   </div>
                 </Link>
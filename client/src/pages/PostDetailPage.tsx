@@ -4,7 +4,10 @@ import {
   useDeletePost,
   useCreateComment,
 } from "../hooks/queries/useBoardQueries";
-import { useState } from "react";
+import { useUserStats } from "../hooks/queries/useUserQueries";
+import { useEffect, useState } from "react";
+import { boardService } from "../api/boardService";
+import type { Comment, CommentFeedEvent } from "../types/board.types";
 import { toast } from "react-toastify";
 import LoadingSpinner from "../components/LoadingSpinner";
 import {
@@ -23,11 +26,67 @@ const PostDetailPage = () => {
   const numericPostId = Number(postId);
 
   const [comment, setComment] = useState("");
+  // 첫 페이지 이후에 "더 보기"로 불러온 댓글과 다음 커서
+  const [moreComments, setMoreComments] = useState<Comment[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
+  // 실시간 피드로 받은 댓글 변경분
+  const [liveComments, setLiveComments] = useState<Comment[]>([]);
+  const [updatedComments, setUpdatedComments] = useState<
+    Record<number, Comment>
+  >({});
+  const [deletedCommentIds, setDeletedCommentIds] = useState<number[]>([]);
 
   const postQuery = useGetPost(numericPostId);
+  const authorStatsQuery = useUserStats(postQuery.data?.authorId);
   const deletePostMutation = useDeletePost();
   const createCommentMutation = useCreateComment();
 
+  // 게시글(첫 댓글 페이지)이 다시 조회되면 추가로 불러온 댓글과 실시간 변경분은 초기화
+  useEffect(() => {
+    setMoreComments([]);
+    setNextCursor(postQuery.data?.commentsNextCursor ?? null);
+    setLiveComments([]);
+    setUpdatedComments({});
+    setDeletedCommentIds([]);
+  }, [postQuery.data]);
+
+  // 새로고침 없이 다른 사용자의 댓글 작성/수정/삭제를 반영
+  useEffect(() => {
+    if (!numericPostId) return;
+    const handleEvent = (event: CommentFeedEvent) => {
+      if (event.type === "comment-created" && event.comment) {
+        const created = event.comment;
+        setLiveComments((prev) =>
+          prev.some((c) => c.id === created.id) ? prev : [...prev, created]
+        );
+      } else if (event.type === "comment-updated" && event.comment) {
+        const updated = event.comment;
+        setUpdatedComments((prev) => ({ ...prev, [updated.id]: updated }));
+      } else if (event.type === "comment-deleted") {
+        setDeletedCommentIds((prev) => [...prev, event.commentId]);
+      }
+    };
+    return boardService.subscribeComments(numericPostId, handleEvent);
+  }, [numericPostId]);
+
+  const handleLoadMoreComments = async () => {
+    if (!nextCursor) return;
+    setIsLoadingMore(true);
+    try {
+      const page = await boardService.getComments({
+        postId: numericPostId,
+        cursor: nextCursor,
+      });
+      setMoreComments((prev) => [...prev, ...page.content]);
+      setNextCursor(page.nextCursor);
+    } catch {
+      toast.error("댓글을 불러오지 못했습니다.");
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const handleDelete = () => {
     if (window.confirm("정말 이 게시글을 삭제하시겠습니까?")) {
       deletePostMutation.mutate(numericPostId, {
@@ -83,6 +142,18 @@ const PostDetailPage = () => {
       </div>
     );
 
+  // 이미 불러온 댓글과 실시간으로 받은 댓글을 합치고, 수정/삭제 변경분을 반영
+  const loadedComments = [...(post.comments ?? []), ...moreComments];
+  const loadedIds = new Set(loadedComments.map((c) => c.id));
+  const comments = [
+    ...loadedComments,
+    ...liveComments.filter((c) => !loadedIds.has(c.id)),
+  ]
+    .filter((c) => !deletedCommentIds.includes(c.id))
+    .map((c) => updatedComments[c.id] ?? c);
+  const commentCount =
+    post.commentCount + liveComments.length - deletedCommentIds.length;
+
   return (
     <div className="max-w-7xl mx-auto px-6 sm:px-8 lg:px-12 py-16">
       <div className="mb-8">
@@ -102,6 +173,12 @@ const PostDetailPage = () => {
             <span className="font-medium text-gray-700">
               {post.authorNickname}
             </span>
+            {authorStatsQuery.data && (
+              <span className="text-xs text-gray-400">
+                글 {authorStatsQuery.data.postCount} · 댓글{" "}
+                {authorStatsQuery.data.commentCount}
+              </span>
+            )}
           </div>
           <div className="flex items-center gap-2">
             <CalendarDaysIcon className="w-4 h-4" />
@@ -143,18 +220,18 @@ const PostDetailPage = () => {
           <h2 className="text-xl font-bold text-gray-900">
             댓글{" "}
             <span className="text-[var(--color-primary)]">
-              {post.comments?.length || 0}
+              {commentCount}
             </span>
           </h2>
         </div>
 
         <div className="space-y-6 mb-8">
-          {post.comments?.length === 0 ? (
+          {comments.length === 0 ? (
             <p className="text-center text-gray-500 py-4">
               첫 번째 댓글을 남겨보세요!
             </p>
           ) : (
-            post.comments?.map((comment) => (
+            comments.map((comment) => (
               <div
                 key={comment.id}
                 className="bg-white p-5 rounded-xl border border-gray-100 shadow-sm"
@@ -173,6 +250,17 @@ const PostDetailPage = () => {
               </div>
             ))
           )}
+          {nextCursor && (
+            <div className="text-center">
+              <button
+                onClick={handleLoadMoreComments}
+                disabled={isLoadingMore}
+                className="px-4 py-2 text-sm text-gray-700 bg-white border border-gray-200 hover:bg-gray-50 hover:text-[var(--color-primary)] rounded-xl transition-all shadow-sm disabled:opacity-50"
+              >
+                {isLoadingMore ? "불러오는 중..." : "댓글 더 보기"}
+              </button>
+            </div>
+          )}
         </div>
 
         <form onSubmit={handleCommentSubmit} className="relative">
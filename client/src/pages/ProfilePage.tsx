@@ -3,6 +3,8 @@ import { toast } from "react-toastify";
 import {
   useUserProfile,
   useUpdateProfile,
+  useMyPosts,
+  useMyComments,
 } from "../hooks/queries/useUserQueries";
 import LoadingSpinner from "../components/LoadingSpinner";
 import { AxiosError } from "axios";
@@ -12,13 +14,21 @@ import {
   DocumentTextIcon,
   ChatBubbleLeftEllipsisIcon,
   PencilSquareIcon,
+  EyeIcon,
 } from "@heroicons/react/24/outline";
 
 function ProfilePage() {
   const { data: profile, isLoading, isError, error } = useUserProfile();
   const { mutate: updateNickname, isPending: isUpdating } = useUpdateProfile();
+  const postsQuery = useMyPosts();
+  const commentsQuery = useMyComments();
   const [nickname, setNickname] = useState("");
 
+  // 지금까지 불러온 페이지를 이어 붙인 목록
+  const posts = postsQuery.data?.pages.flatMap((page) => page.content) ?? [];
+  const comments =
+    commentsQuery.data?.pages.flatMap((page) => page.content) ?? [];
+
   useEffect(() => {
     if (profile) {
       setNickname(profile.nickname);
@@ -141,17 +151,24 @@ function ProfilePage() {
               <div className="bg-blue-50 p-4 rounded-xl text-center">
                 <DocumentTextIcon className="w-6 h-6 text-[var(--color-secondary)] mx-auto mb-2" />
                 <div className="text-2xl font-bold text-[var(--color-primary)]">
-                  {profile?.posts?.length || 0}
+                  {profile?.stats.postCount ?? 0}
                 </div>
                 <div className="text-xs text-gray-500">작성한 글</div>
               </div>
               <div className="bg-indigo-50 p-4 rounded-xl text-center">
                 <ChatBubbleLeftEllipsisIcon className="w-6 h-6 text-indigo-500 mx-auto mb-2" />
                 <div className="text-2xl font-bold text-[var(--color-primary)]">
-                  {profile?.comments?.length || 0}
+                  {profile?.stats.commentCount ?? 0}
                 </div>
                 <div className="text-xs text-gray-500">작성한 댓글</div>
               </div>
+              <div className="col-span-2 bg-gray-50 p-4 rounded-xl text-center">
+                <EyeIcon className="w-6 h-6 text-gray-500 mx-auto mb-2" />
+                <div className="text-2xl font-bold text-[var(--color-primary)]">
+                  {profile?.stats.totalViews ?? 0}
+                </div>
+                <div className="text-xs text-gray-500">내 글 조회수 합계</div>
+              </div>
             </div>
           </div>
         </div>
@@ -165,9 +182,9 @@ function ProfilePage() {
               최근 작성한 게시글
             </h2>
             <div className="glass rounded-2xl overflow-hidden shadow-sm">
-              {profile?.posts && profile.posts.length > 0 ? (
+              {posts.length > 0 ? (
                 <ul className="divide-y divide-gray-100">
-                  {profile.posts.map((post) => (
+                  {posts.map((post) => (
                     <li
                       key={post.id}
                       className="group hover:bg-blue-50/50 transition-colors duration-200 cursor-pointer"
@@ -192,6 +209,19 @@ function ProfilePage() {
                 </div>
               )}
             </div>
+            {postsQuery.hasNextPage && (
+              <div className="text-center mt-4">
+                <button
+                  onClick={() => postsQuery.fetchNextPage()}
+                  disabled={postsQuery.isFetchingNextPage}
+                  className="px-4 py-2 text-sm text-gray-700 bg-white border border-gray-200 hover:bg-gray-50 hover:text-[var(--color-primary)] rounded-xl transition-all shadow-sm disabled:opacity-50"
+                >
+                  {postsQuery.isFetchingNextPage
+                    ? "불러오는 중..."
+                    : "게시글 더 보기"}
+                </button>
+              </div>
+            )}
           </section>
 
           {/* 작성한 댓글 */}
@@ -201,11 +231,11 @@ function ProfilePage() {
               최근 작성한 댓글
             </h2>
             <div className="glass rounded-2xl overflow-hidden shadow-sm">
-              {profile?.comments && profile.comments.length > 0 ? (
+              {comments.length > 0 ? (
                 <ul className="divide-y divide-gray-100">
-                  {profile.comments.map((comment, index) => (
+                  {comments.map((comment) => (
                     <li
-                      key={index}
+                      key={comment.id}
                       className="group hover:bg-blue-50/50 transition-colors duration-200 cursor-pointer"
                       onClick={() =>
                         (window.location.href = `/board/posts/${comment.postId}`)
@@ -234,6 +264,19 @@ function ProfilePage() {
                 </div>
               )}
             </div>
+            {commentsQuery.hasNextPage && (
+              <div className="text-center mt-4">
+                <button
+                  onClick={() => commentsQuery.fetchNextPage()}
+                  disabled={commentsQuery.isFetchingNextPage}
+                  className="px-4 py-2 text-sm text-gray-700 bg-white border border-gray-200 hover:bg-gray-50 hover:text-[var(--color-primary)] rounded-xl transition-all shadow-sm disabled:opacity-50"
+                >
+                  {commentsQuery.isFetchingNextPage
+                    ? "불러오는 중..."
+                    : "댓글 더 보기"}
+                </button>
+              </div>
+            )}
           </section>
         </div>
       </div>
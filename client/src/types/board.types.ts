@@ -3,8 +3,11 @@ export interface PostListItem {
   id: number;
   title: string;
   authorId: string;
+  authorNickname: string;
   viewCount: number;
+  commentCount: number;
   createdAt: string;
+  updatedAt: string;
 }
 
 // 게시글 상세 정보 응답
@@ -15,9 +18,11 @@ export interface Post {
   authorId: string;
   authorNickname: string;
   viewCount: number;
+  commentCount: number;
   createdAt: string;
   updatedAt: string;
-  comments?: Comment[];
+  comments?: Comment[]; // 첫 댓글 페이지
+  commentsNextCursor?: string | null; // 다음 댓글 페이지 커서
 }
 
 // 게시글 생성 요청
@@ -43,6 +48,14 @@ export interface Comment {
   updatedAt: string;
 }
 
+// 실시간 댓글 피드 이벤트 (삭제 시 comment는 null)
+export interface CommentFeedEvent {
+  type: "comment-created" | "comment-updated" | "comment-deleted";
+  postId: number;
+  commentId: number;
+  comment: Comment | null;
+}
+
 // 댓글 생성 요청
 export interface CommentCreateRequest {
   content: string;
@@ -13,3 +13,10 @@ export interface Page<T> {
   size: number;
   number: number; // 현재 페이지 번호
 }
+
+// 커서 기반 페이지 응답 인터페이스
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
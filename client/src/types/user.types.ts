@@ -1,9 +1,15 @@
-// 사용자 정보
+// 사용자 정보 (작성한 글/댓글은 /users/me/posts, /users/me/comments 에서 커서 페이지로 조회)
 export interface UserProfile {
   email: string;
   nickname: string;
-  posts: UserPostSummary[];
-  comments: UserCommentSummary[];
+  stats: UserStats;
+}
+
+// 사용자 활동 통계 (프로필, 작성자 카드)
+export interface UserStats {
+  postCount: number;
+  commentCount: number;
+  totalViews: number;
 }
 
 // 게시글 요약
@@ -15,6 +21,7 @@ export interface UserPostSummary {
 
 // 댓글 요약
 export interface UserCommentSummary {
+  id: number;
   postId: number;
   content: string;
   postTitle: string;
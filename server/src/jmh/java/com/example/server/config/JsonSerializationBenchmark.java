@@ -0,0 +1,120 @@
+package com.example.server.config;
+
+import com.example.server.board.dto.CommentResponse;
+import com.example.server.board.dto.PostResponse;
+import com.example.server.image.dto.AnalysisResultDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 직렬화 비교
+ * baseline: 이전 HTTP converter처럼 모듈 추가 없이 만든 ObjectMapper
+ * shared: JacksonConfig와 같은 설정 (Blackbird + 공유 버퍼 풀)
+ * 응답 스트림에 쓰는 것과 같이 OutputStream으로 직렬화하고 결과는 버림
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JsonSerializationBenchmark {
+
+    // writeValue가 스트림을 닫아도 계속 쓸 수 있도록 close를 무시하는 출력
+    private final OutputStream out = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private ObjectMapper baseline;
+    private ObjectMapper shared;
+    private PostResponse postResponse;
+    private AnalysisResultDto analysisResult;
+
+    @Setup
+    public void setUp() {
+        // 날짜 형식은 Spring Boot 기본값과 같게 맞추고 serializer 최적화 여부만 다르게 함
+        baseline = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        shared = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new BlackbirdModule())
+                .factory(JacksonConfig.jsonFactory(256))
+                .build();
+
+        OffsetDateTime now = OffsetDateTime.parse("2025-03-01T12:00:00+09:00");
+        postResponse = new PostResponse(1L, "졸업 요건 질문", "전공 필수 학점은 어떻게 계산하나요? ".repeat(20),
+                UUID.randomUUID(), 1234, 20, now, now);
+        postResponse.setAuthorNickname("작성자");
+        List<CommentResponse> comments = new ArrayList<>();
+        for (long i = 0; i < 20; i++) {
+            CommentResponse comment = new CommentResponse(i, "댓글 내용 " + i, UUID.randomUUID(), now, now);
+            comment.setAuthorNickname("댓글러" + i);
+            comments.add(comment);
+        }
+        postResponse.setComments(comments);
+        postResponse.setCommentsNextCursor("MjAyNS0wMy0wMVQxMjowMDowMCswOTowMHwyMA");
+
+        // Gemini 성적표 분석 결과와 비슷한 구조 (과목 60개 + 요약)
+        List<Map<String, Object>> courses = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Map<String, Object> course = new LinkedHashMap<>();
+            course.put("subjectName", "과목" + i);
+            course.put("credits", 3);
+            course.put("grade", "A+");
+            course.put("category", i % 2 == 0 ? "전공필수" : "교양");
+            courses.add(course);
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("applied_credits", 130);
+        summary.put("earned_credits", 130);
+        summary.put("gpa", 4.12);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("courses", courses);
+        result.put("gradeSummary", summary);
+        analysisResult = new AnalysisResultDto(result);
+    }
+
+    @Benchmark
+    public void postResponseBaseline() throws IOException {
+        baseline.writeValue(out, postResponse);
+    }
+
+    @Benchmark
+    public void postResponseShared() throws IOException {
+        shared.writeValue(out, postResponse);
+    }
+
+    @Benchmark
+    public void analysisResultBaseline() throws IOException {
+        baseline.writeValue(out, analysisResult);
+    }
+
+    @Benchmark
+    public void analysisResultShared() throws IOException {
+        shared.writeValue(out, analysisResult);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.server.admin.controller;
+
+import com.example.server.admin.dto.CacheRegionStatsResponse;
+import com.example.server.admin.service.CacheStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/cache")
+@Tag(name = "Cache Admin Controller", description = "캐시 관리자 API 컨트롤러")
+public class CacheAdminController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @Operation(summary = "2차 캐시 통계 조회", description = "Hibernate 2차 캐시 region별 hit/miss/put 횟수와 hit ratio를 조회합니다. 관리자만 사용할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자가 아님")
+            })
+    @GetMapping
+    public ResponseEntity<List<CacheRegionStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getSecondLevelCacheStats());
+    }
+}
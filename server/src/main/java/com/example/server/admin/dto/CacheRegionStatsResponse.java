@@ -0,0 +1,14 @@
+package com.example.server.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+}
@@ -0,0 +1,38 @@
+package com.example.server.admin.service;
+
+import com.example.server.admin.dto.CacheRegionStatsResponse;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 region별 통계 (애플리케이션 시작 이후 누적)
+ */
+@Service
+@RequiredArgsConstructor
+@Observed
+public class CacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsResponse> getSecondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                    long hits = regionStatistics.getHitCount();
+                    long misses = regionStatistics.getMissCount();
+                    double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+                    return new CacheRegionStatsResponse(region, hits, misses, regionStatistics.getPutCount(), hitRatio);
+                })
+                .toList();
+    }
+}
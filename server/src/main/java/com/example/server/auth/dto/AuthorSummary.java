@@ -0,0 +1,13 @@
+package com.example.server.auth.dto;
+
+import java.util.UUID;
+
+/**
+ * 작성자 표시용 최소 정보 projection
+ * raw_user_meta_data JSON 전체를 읽지 않고 DB에서 nickname 값만 추출해 받음
+ */
+public interface AuthorSummary {
+    UUID getId();
+
+    String getNickname();
+}
@@ -5,6 +5,8 @@ import com.example.server.board.entity.Post;
 import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -13,9 +15,14 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users", schema = "auth")
+// 이 엔티티로는 수정하지 않으므로 READ_ONLY, 닉네임 변경(User) 시에는 AuthorNicknameCache.evict에서 함께 제거
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = AuthUser.CACHE_REGION)
 @Getter
 public class AuthUser {
 
+    public static final String CACHE_REGION = "auth-user";
+
     @Id
     private UUID id;
 
@@ -1,13 +1,26 @@
 package com.example.server.auth.repository;
 
+import com.example.server.auth.dto.AuthorSummary;
 import com.example.server.auth.entity.AuthUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AuthUserRepository extends JpaRepository<AuthUser, UUID> {
     Optional<AuthUser> findById(UUID id);
+
+    // JSONB 컬럼을 엔티티로 올리지 않고 nickname 문자열만 한 번의 쿼리로 조회
+    @Query(
+            value = "select cast(u.id as varchar) as id, jsonb_extract_path_text(u.raw_user_meta_data, 'nickname') as nickname " +
+                    "from auth.users u where u.id in (:ids)",
+            nativeQuery = true
+    )
+    List<AuthorSummary> findAuthorSummariesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -6,6 +6,7 @@ import com.example.server.auth.dto.SignUpRequest;
 import com.example.server.auth.exception.SupabaseAuthException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -17,10 +18,11 @@ import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
+@Observed
 public class AuthService {
 
     private final WebClient supabaseWebClient;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
 
     public AuthResponse signUp(SignUpRequest signUpRequest) {
         Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,130 @@
+package com.example.server.auth.service;
+
+import com.example.server.auth.dto.AuthorSummary;
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.auth.repository.AuthUserRepository;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작성자 UUID -> 닉네임 캐시
+ * 게시글/댓글 DTO 변환 시 작성자마다 auth.users의 JSON 메타데이터를 읽지 않도록,
+ * 캐시에 없는 작성자만 모아서 한 번의 projection 쿼리로 닉네임을 가져옴
+ * evict는 이 서버에만 적용되므로, 다른 서버에서 바뀐 닉네임은 ttl-seconds 안에 반영됨
+ */
+@Component
+public class AuthorNicknameCache {
+
+    public static final String DEFAULT_NICKNAME = "익명"; // 닉네임이 없는 경우 기본값
+
+    private final AuthUserRepository authUserRepository;
+    private final ReplicaConsistency replicaConsistency;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<UUID, String> cache;
+    // evict 할 때마다 증가, 조회 도중 evict가 있었으면 읽어 온 (이전일 수 있는) 값을 캐시에 남기지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AuthorNicknameCache(AuthUserRepository authUserRepository,
+                               ReplicaConsistency replicaConsistency,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${board.author-cache.max-size:10000}") int maxSize,
+                               @Value("${board.author-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.authUserRepository = authUserRepository;
+        this.replicaConsistency = replicaConsistency;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 단일 작성자의 닉네임 조회
+     * @param authorId 작성자 ID
+     * @return 닉네임 (없으면 기본값)
+     */
+    public String getNickname(UUID authorId) {
+        if (authorId == null) {
+            return DEFAULT_NICKNAME;
+        }
+        return getNicknames(Set.of(authorId)).get(authorId);
+    }
+
+    /**
+     * 여러 작성자의 닉네임을 한 번에 조회
+     * 캐시 미스가 난 ID만 모아서 DB에 한 번 질의함
+     * @param authorIds 작성자 ID 목록
+     * @return 작성자 ID -> 닉네임 맵
+     */
+    public Map<UUID, String> getNicknames(Collection<UUID> authorIds) {
+        Map<UUID, String> result = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+
+        for (UUID authorId : authorIds) {
+            if (authorId == null) {
+                continue;
+            }
+            String nickname = cache.getIfPresent(authorId);
+            if (nickname != null) {
+                result.put(authorId, nickname);
+            } else {
+                missing.add(authorId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+
+        Map<UUID, String> loaded = new HashMap<>();
+        for (AuthorSummary summary : authUserRepository.findAuthorSummariesByIdIn(missing)) {
+            String nickname = summary.getNickname();
+            loaded.put(summary.getId(), nickname != null ? nickname : DEFAULT_NICKNAME);
+        }
+        // DB에 없는 사용자도 기본값으로 채워서 매번 다시 조회하지 않도록 함
+        for (UUID authorId : missing) {
+            loaded.putIfAbsent(authorId, DEFAULT_NICKNAME);
+        }
+
+        cache.putAll(loaded);
+        // 조회 중(또는 넣는 사이)에 evict가 있었으면, 커밋 전이나 지연된 복제본에서 읽은 이전 닉네임일 수 있으므로 다시 뺌
+        // (evict는 카운터를 먼저 올리고 제거하므로, 넣은 뒤에 확인하면 어느 순서로 겹쳐도 이전 값이 남지 않음)
+        if (evictions.get() != evictionsBeforeLoad) {
+            cache.invalidateAll(loaded.keySet());
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 닉네임 변경 시 캐시에서 제거
+     * 같은 행을 매핑한 AuthUser의 2차 캐시 항목도 함께 제거 (User로 수정하면 AuthUser 캐시는 갱신되지 않음)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거해서, 커밋 전 이전 값이 다시 캐싱되는 것을 막음
+     * @param authorId 작성자 ID
+     */
+    public void evict(UUID authorId) {
+        replicaConsistency.runAfterCommit(() -> evictNow(authorId));
+        evictNow(authorId);
+    }
+
+    private void evictNow(UUID authorId) {
+        evictions.incrementAndGet();
+        cache.invalidate(authorId);
+        entityManagerFactory.getCache().evict(AuthUser.class, authorId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.server.board.controller;
+
+import com.example.server.board.dto.EventBusStatsResponse;
+import com.example.server.board.dto.ImportResultResponse;
+import com.example.server.board.event.BoardEventBus;
+import com.example.server.board.service.BoardImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/board")
+@Tag(name = "Board Admin Controller", description = "게시판 관리자 API 컨트롤러")
+public class BoardAdminController {
+
+    private final BoardImportService boardImportService;
+    private final BoardEventBus boardEventBus;
+
+    @Operation(summary = "게시글 대량 가져오기", description = "한 줄에 게시글 하나(댓글 포함)씩 들어있는 NDJSON을 가져옵니다. 관리자만 사용할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "가져오기 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 입력 (실패한 줄 이전까지는 저장됨)"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자가 아님"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            })
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ImportResultResponse> importPosts(InputStream body) {
+        // 요청 본문을 한 번에 읽지 않고 스트림으로 처리
+        ImportResultResponse response = boardImportService.importPosts(body);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "게시판 이벤트 버스 통계", description = "이벤트 버퍼 크기, 발행/버려진 이벤트 수와 구독자별 처리 현황(lag, 배치 크기, 오류 수)을 조회합니다. 관리자만 사용할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "403", description = "관리자가 아님")
+            })
+    @GetMapping("/events")
+    public ResponseEntity<EventBusStatsResponse> getEventBusStats() {
+        return ResponseEntity.ok(boardEventBus.getStats());
+    }
+}
@@ -2,8 +2,13 @@ package com.example.server.board.controller;
 
 import com.example.server.board.dto.*;
 import com.example.server.board.service.BoardService;
+import com.example.server.board.service.CommentFeedBroker;
+import com.example.server.board.service.PostDetailService;
+import com.example.server.global.common.ContentVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,10 +16,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,31 +32,90 @@ import java.net.URI;
 public class BoardController {
 
     private final BoardService boardService;
+    private final PostDetailService postDetailService;
+    private final ContentVersions contentVersions;
+    private final CommentFeedBroker commentFeedBroker;
 
     @Operation(summary = "특정 게시글 조회", description = "ID를 통해 특정 게시글의 상세 정보를 조회합니다.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+                    @ApiResponse(responseCode = "200", description = "게시글 조회 성공",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = PostResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
                     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
                     @ApiResponse(responseCode = "500", description = "서버 내부 오류")
             })
-    @GetMapping("/posts/{postId}")
-    public ResponseEntity<PostResponse> getPost(
-            @Parameter(description = "조회할 게시글 ID", required = true) @PathVariable Long postId) {
-        PostResponse response = boardService.getPostByPostId(postId);
-        return ResponseEntity.ok(response);
+    @GetMapping(value = "/posts/{postId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPost(
+            @Parameter(description = "조회할 게시글 ID", required = true) @PathVariable Long postId,
+            ServletWebRequest webRequest) {
+        // ETag 조회에서 게시글이 없으면 404, 캐시된 JSON 바이트를 그대로 응답
+        ResponseEntity<byte[]> response = contentVersions.conditionalGet(webRequest,
+                () -> boardService.getPostETag(postId),
+                etag -> postDetailService.getPostDetailJson(postId, etag));
+        if (response == null) {
+            // 본문은 만들지 않지만 조회수는 증가
+            postDetailService.recordView(postId);
+        }
+        return response;
     }
 
     @Operation(summary = "모든 게시글 조회", description = "페이지네이션을 적용하여 모든 게시글 목록을 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
                     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
                     @ApiResponse(responseCode = "500", description = "서버 내부 오류")
             })
     @GetMapping("/posts")
-    public ResponseEntity<Page<PostResponse>> getPosts(
-            @Parameter(description = "페이지네이션 정보") @PageableDefault(sort = "createdAt,desc") Pageable pageable) {
-        Page<PostResponse> response = boardService.getPosts(pageable);
+    public ResponseEntity<Page<PostListResponse>> getPosts(
+            @Parameter(description = "페이지네이션 정보") @PageableDefault(sort = "createdAt,desc") Pageable pageable,
+            ServletWebRequest webRequest) {
+        return contentVersions.conditionalGet(webRequest, contentVersions::getBoardETag, etag -> boardService.getPosts(pageable));
+    }
+
+    @Operation(summary = "게시글 목록 커서 조회", description = "cursor 파라미터가 있으면 최신순 커서 기반으로 게시글 목록을 조회합니다. 첫 페이지는 cursor를 빈 값으로 보냅니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            })
+    @GetMapping(value = "/posts", params = "cursor")
+    public ResponseEntity<CursorPageResponse<PostListResponse>> getPostsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest) {
+        return contentVersions.conditionalGet(webRequest, contentVersions::getBoardETag, etag -> boardService.getPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "인기 게시글 조회", description = "최근 조회수와 댓글 수를 시간 감쇠해서 계산한 점수가 높은 순서로 게시글을 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "인기 게시글 조회 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            })
+    @GetMapping("/posts/hot")
+    public ResponseEntity<List<PostListResponse>> getHotPosts(
+            @Parameter(description = "개수 (최대 50)") @RequestParam(defaultValue = "10") int size) {
+        List<PostListResponse> response = boardService.getHotPosts(size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "게시글 검색", description = "제목과 본문에서 검색어를 포함하는 게시글을 관련도순으로 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "게시글 검색 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            })
+    @GetMapping("/search")
+    public ResponseEntity<Page<PostListResponse>> searchPosts(
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size) {
+        Page<PostListResponse> response = boardService.searchPosts(q, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -115,6 +183,37 @@ public class BoardController {
                 .body(response);
     }
 
+    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글을 작성순으로 커서 기반 페이지네이션하여 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+                    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+            })
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getComments(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<CommentResponse> response = boardService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "실시간 댓글 피드 구독", description = "특정 게시글의 댓글 생성/수정/삭제를 SSE(text/event-stream)로 받습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "구독 성공 (연결 유지)"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+                    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+                    @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+            })
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId) {
+        boardService.checkPostExists(postId);
+        return commentFeedBroker.subscribe(postId);
+    }
+
     @Operation(summary = "댓글 수정", description = "특정 댓글의 내용을 수정합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "댓글 수정 성공"),
@@ -0,0 +1,30 @@
+package com.example.server.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 실시간 댓글 피드로 보내는 변경분 (삭제 시 comment는 null)
+@Getter
+@AllArgsConstructor
+public class CommentFeedEvent {
+    public static final String CREATED = "comment-created";
+    public static final String UPDATED = "comment-updated";
+    public static final String DELETED = "comment-deleted";
+
+    private String type;
+    private Long postId;
+    private Long commentId;
+    private CommentResponse comment;
+
+    public static CommentFeedEvent created(Long postId, CommentResponse comment) {
+        return new CommentFeedEvent(CREATED, postId, comment.getId(), comment);
+    }
+
+    public static CommentFeedEvent updated(Long postId, CommentResponse comment) {
+        return new CommentFeedEvent(UPDATED, postId, comment.getId(), comment);
+    }
+
+    public static CommentFeedEvent deleted(Long postId, Long commentId) {
+        return new CommentFeedEvent(DELETED, postId, commentId, null);
+    }
+}
@@ -17,11 +17,20 @@ public class CommentResponse {
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 
-    public CommentResponse(Comment comment) {
+    // JPQL constructor projection 용 생성자, authorNickname은 조회 후 채움
+    public CommentResponse(Long id, String content, UUID authorId, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        this.id = id;
+        this.content = content;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public CommentResponse(Comment comment, String authorNickname) {
         this.id = comment.getId();
         this.content = comment.getContent();
         this.authorId = comment.getAuthor().getId();
-        this.authorNickname = comment.getAuthor().getNickname();
+        this.authorNickname = authorNickname;
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
     }
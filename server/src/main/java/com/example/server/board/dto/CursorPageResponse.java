@@ -0,0 +1,36 @@
+package com.example.server.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * Spring Page와 달리 전체 개수(count 쿼리) 없이 다음 페이지 커서만 전달함
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * pageSize + 1건을 조회한 결과로 페이지 응답 생성
+     * 초과 조회된 1건이 있으면 다음 페이지가 있는 것으로 보고 마지막 항목으로 커서를 만듦
+     * @param rows pageSize + 1 건까지 조회한 결과
+     * @param pageSize 실제 페이지 크기
+     * @param cursorOf 항목에서 커서를 만드는 함수
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageResponse<>(rows, null, false);
+        }
+        List<T> content = new ArrayList<>(rows.subList(0, pageSize));
+        String nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        return new CursorPageResponse<>(content, nextCursor, true);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.server.board.dto;
+
+import com.example.server.global.event.EventRingBuffer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EventBusStatsResponse {
+    private int capacity;
+    private long published;
+    // 버퍼가 가득 차서 버린 이벤트 수
+    private long dropped;
+    private List<EventRingBuffer.ConsumerStats> consumers;
+}
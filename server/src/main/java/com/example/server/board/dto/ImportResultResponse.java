@@ -0,0 +1,13 @@
+package com.example.server.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportResultResponse {
+    private long importedPosts;
+    private long importedComments;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
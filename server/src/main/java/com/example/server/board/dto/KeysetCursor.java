@@ -0,0 +1,52 @@
+package com.example.server.board.dto;
+
+import com.example.server.board.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 keyset 페이지네이션 커서
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64 URL-safe 문자열로만 노출함
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final OffsetDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 클라이언트가 전달한 커서 (없으면 첫 페이지)
+     * @return 해석된 커서, 커서가 없으면 null
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
+            OffsetDateTime createdAt = OffsetDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.server.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 삭제할 게시글의 작성자와 누적 조회수 (행을 잠근 상태에서 읽은 값)
+ */
+@Getter
+@AllArgsConstructor
+public class PostDeleteTarget {
+    private UUID authorId;
+    private Integer viewCount;
+}
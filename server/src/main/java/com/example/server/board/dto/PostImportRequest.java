@@ -0,0 +1,33 @@
+package com.example.server.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// NDJSON 가져오기의 한 줄 (게시글 1개와 그 댓글들)
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostImportRequest {
+    private String title;
+    private String content;
+    private UUID authorId;
+    private Integer viewCount;
+    // 원래 작성 시각 (ISO-8601, 없으면 가져온 시각)
+    private OffsetDateTime createdAt;
+    private List<CommentImportRequest> comments = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CommentImportRequest {
+        private String content;
+        private UUID authorId;
+        private OffsetDateTime createdAt;
+    }
+}
@@ -1,26 +1,36 @@
 package com.example.server.board.dto;
 
-import com.example.server.board.entity.Post;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+/**
+ * 게시글 목록용 요약 DTO
+ * 본문(content TEXT)은 조회하지 않고, 댓글 수는 posts.comment_count 컬럼 값을 그대로 사용
+ */
 @Getter
 @Setter
 public class PostListResponse {
     private Long id;
     private String title;
     private UUID authorId;
+    private String authorNickname;
     private Integer viewCount;
+    private Integer commentCount;
     private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
 
-    public PostListResponse(Post post) {
-        this.id = post.getId();
-        this.title = post.getTitle();
-        this.authorId = post.getAuthor().getId();
-        this.viewCount = post.getViewCount();
-        this.createdAt = post.getCreatedAt();
+    // JPQL constructor projection 용 생성자, authorNickname은 조회 후 채움
+    public PostListResponse(Long id, String title, UUID authorId, Integer viewCount, Integer commentCount,
+                            OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.authorId = authorId;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
     }
 }
@@ -17,21 +17,37 @@ public class PostResponse {
     private UUID authorId;
     private String authorNickname;
     private Integer viewCount;
+    private Integer commentCount;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
     private List<CommentResponse> comments;
+    private String commentsNextCursor;
 
-    public PostResponse(Post post) {
+    // JPQL constructor projection 용 생성자, authorNickname과 comments는 조회 후 채움
+    public PostResponse(Long id, String title, String content, UUID authorId, Integer viewCount,
+                        Integer commentCount, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.authorId = authorId;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public PostResponse(Post post, String authorNickname) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
 
         if (post.getAuthor() != null) {
             this.authorId = post.getAuthor().getId();
-            this.authorNickname = post.getAuthor().getNickname();
+            this.authorNickname = authorNickname;
         }
 
         this.viewCount = post.getViewCount();
+        this.commentCount = post.getCommentCount();
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
     }
@@ -0,0 +1,25 @@
+package com.example.server.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 게시글 상세 ETag를 만드는 버전 정보 (수정 시각, 댓글 버전, 전체 버전)
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersion {
+    private OffsetDateTime updatedAt;
+    private Long commentVersion;
+    private Long globalVersion;
+
+    // 조회수는 요청마다 바뀌므로 제외하고 weak ETag로 발급
+    public String toETag() {
+        long updatedAtMicros = updatedAt != null
+                ? updatedAt.toEpochSecond() * 1_000_000 + updatedAt.getNano() / 1_000
+                : 0;
+        return "W/\"" + updatedAtMicros + "-" + commentVersion + "-" + globalVersion + "\"";
+    }
+}
@@ -4,20 +4,26 @@ import com.example.server.auth.entity.AuthUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시글별 댓글 keyset 페이지네이션 (post_id, created_at, id) 용 인덱스
+        @Index(name = "idx_comments_post_id_created_at_id", columnList = "post_id, created_at, id"),
+        // 프로필의 내가 쓴 댓글 keyset 페이지네이션 용 인덱스
+        @Index(name = "idx_comments_author_id_created_at_id", columnList = "author_id, created_at desc, id desc")
+})
 @Getter
 @Setter
 public class Comment {
 
+    // IDENTITY는 INSERT마다 ID를 받아와야 해서 JDBC 배치가 꺼지므로, 50개씩 미리 할당하는 pooled sequence 사용
+    // (DB 시퀀스의 increment도 50이어야 함, docs/api/board.md 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_id_seq")
+    @SequenceGenerator(name = "comments_id_seq", sequenceName = "comments_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -31,11 +37,25 @@ public class Comment {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
-    @CreationTimestamp
+    // 가져오기(BoardImportService)는 원래 작성 시각을 넣으므로 @CreationTimestamp 대신 비어 있을 때만 채움
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        updatedAt = OffsetDateTime.now();
+    }
 }
@@ -4,21 +4,27 @@ import com.example.server.auth.entity.AuthUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 최신순 keyset 페이지네이션 (created_at desc, id desc) 용 인덱스
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at desc, id desc"),
+        // 프로필의 내가 쓴 게시글 keyset 페이지네이션 용 인덱스
+        @Index(name = "idx_posts_author_id_created_at_id", columnList = "author_id, created_at desc, id desc")
+})
 @Getter
 @Setter
 public class Post {
 
+    // IDENTITY는 INSERT마다 ID를 받아와야 해서 JDBC 배치가 꺼지므로, 50개씩 미리 할당하는 pooled sequence 사용
+    // (DB 시퀀스의 increment도 50이어야 함, docs/api/board.md 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_id_seq")
+    @SequenceGenerator(name = "posts_id_seq", sequenceName = "posts_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,21 +37,41 @@ public class Post {
     @JoinColumn(name = "author_id", nullable = false)
     private AuthUser author;
 
-    @Column(name = "view_count", nullable = false)
+    // 카운터 컬럼은 원자적 UPDATE(view_count = view_count + ?)로만 갱신하고, 엔티티 dirty checking으로는 쓰지 않음
+    // (게시글 수정 시 로딩 시점의 값으로 덮어써서 그 사이에 반영된 증가분을 잃지 않도록 updatable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
-    @CreationTimestamp
+    // 목록에서 댓글을 읽지 않고 개수를 보여주기 위한 비정규화 컬럼, 댓글 생성/삭제 시 원자적으로 갱신
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Integer commentCount = 0;
+
+    // 댓글 생성/수정/삭제 때마다 원자적으로 증가, 게시글 상세 ETag에 사용 (댓글 수정은 comment_count가 바뀌지 않으므로)
+    @Column(name = "comment_version", nullable = false, updatable = false)
+    private Long commentVersion = 0L;
+
+    // 가져오기(BoardImportService)는 원래 작성 시각을 넣으므로 @CreationTimestamp 대신 비어 있을 때만 채움
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @UpdateTimestamp
     @Column(name = "updated_at")
     private OffsetDateTime updatedAt;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
-    public void increaseViewCount() {
-        this.viewCount++;
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
+    }
+
+    @PreUpdate
+    void preUpdate() {
+        updatedAt = OffsetDateTime.now();
     }
 }
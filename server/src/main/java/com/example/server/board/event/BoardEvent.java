@@ -0,0 +1,64 @@
+package com.example.server.board.event;
+
+import com.example.server.board.dto.CommentResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 게시글/댓글 변경 도메인 이벤트 (커밋 이후 BoardEventBus로 발행)
+ * 종류에 따라 쓰지 않는 필드는 null
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardEvent {
+
+    public enum Type {
+        POST_CREATED, POST_UPDATED, POST_DELETED, COMMENT_CREATED, COMMENT_UPDATED, COMMENT_DELETED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final Long commentId;
+    private final String title;
+    private final String content;
+    private final CommentResponse comment;
+    // 가져온 게시글(POST_CREATED)의 원래 작성 시각과 누적 조회수/댓글 수, 새로 작성한 게시글은 null과 0
+    private final OffsetDateTime createdAt;
+    private final int viewCount;
+    private final int commentCount;
+
+    // 구독자에게 resync를 요청하는 표식 (BoardEventBus 안에서만 사용, 구독자의 onEvents로는 전달되지 않음)
+    static final BoardEvent RESYNC = new BoardEvent(null, null, null, null, null, null, null, 0, 0);
+
+    public static BoardEvent postCreated(Long postId, String title, String content) {
+        return new BoardEvent(Type.POST_CREATED, postId, null, title, content, null, null, 0, 0);
+    }
+
+    public static BoardEvent postImported(Long postId, String title, String content, OffsetDateTime createdAt,
+                                          int viewCount, int commentCount) {
+        return new BoardEvent(Type.POST_CREATED, postId, null, title, content, null, createdAt, viewCount, commentCount);
+    }
+
+    public static BoardEvent postUpdated(Long postId, String title, String content) {
+        return new BoardEvent(Type.POST_UPDATED, postId, null, title, content, null, null, 0, 0);
+    }
+
+    public static BoardEvent postDeleted(Long postId) {
+        return new BoardEvent(Type.POST_DELETED, postId, null, null, null, null, null, 0, 0);
+    }
+
+    public static BoardEvent commentCreated(Long postId, CommentResponse comment) {
+        return new BoardEvent(Type.COMMENT_CREATED, postId, comment.getId(), null, null, comment, null, 0, 0);
+    }
+
+    public static BoardEvent commentUpdated(Long postId, CommentResponse comment) {
+        return new BoardEvent(Type.COMMENT_UPDATED, postId, comment.getId(), null, null, comment, null, 0, 0);
+    }
+
+    public static BoardEvent commentDeleted(Long postId, Long commentId) {
+        return new BoardEvent(Type.COMMENT_DELETED, postId, commentId, null, null, null, null, 0, 0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.server.board.event;
+
+import com.example.server.board.dto.EventBusStatsResponse;
+import com.example.server.global.event.EventRingBuffer;
+import com.example.server.global.util.TransactionUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시판 도메인 이벤트 버스
+ * BoardService는 커밋 이후 이벤트를 링 버퍼에 넣기만 하고 바로 반환하며,
+ * 검색 색인/인기 랭킹/실시간 피드 같은 부가 작업은 구독자별 스레드에서 비동기로 처리함
+ * 버퍼가 가득 차면 publish-timeout-ms 만큼만 기다린 뒤 이벤트를 버리고 dropped 통계에 남김
+ * 이벤트를 버린 뒤에는 버퍼에 자리가 나는 대로 resync 표식을 넣어서, 구독자가 순서대로 DB에서 상태를 다시 만들게 함
+ */
+@Slf4j
+@Component
+public class BoardEventBus {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final EventRingBuffer<BoardEvent> ringBuffer;
+    private final long publishTimeoutNanos;
+    // 버린 이벤트가 있어서 resync 표식을 넣어야 함
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+    private final LongAdder resyncs = new LongAdder();
+
+    public BoardEventBus(List<BoardEventSubscriber> subscribers,
+                         MeterRegistry meterRegistry,
+                         ObservationRegistry observationRegistry,
+                         @Value("${board.event-bus.buffer-size:8192}") int bufferSize,
+                         @Value("${board.event-bus.max-batch-size:256}") int maxBatchSize,
+                         @Value("${board.event-bus.publish-timeout-ms:100}") long publishTimeoutMillis) {
+        Map<String, EventRingBuffer.BatchHandler<BoardEvent>> handlers = new LinkedHashMap<>();
+        for (BoardEventSubscriber subscriber : subscribers) {
+            String name = ClassUtils.getUserClass(subscriber).getSimpleName();
+            // 한 묶음에 여러 요청의 이벤트가 섞이므로 요청의 trace를 잇지 않고 묶음마다 별도 span으로 기록
+            handlers.put(name, batch -> Observation.createNotStarted("board.event.handle", observationRegistry)
+                    .lowCardinalityKeyValue("subscriber", name)
+                    .highCardinalityKeyValue("batch.size", Integer.toString(batch.size()))
+                    .observe(() -> deliver(subscriber, batch)));
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-event-");
+        threadFactory.setDaemon(true);
+        this.ringBuffer = new EventRingBuffer<>(bufferSize, maxBatchSize, handlers, threadFactory);
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+
+        FunctionCounter.builder("board.event-bus.published", ringBuffer, EventRingBuffer::getPublishedCount).register(meterRegistry);
+        FunctionCounter.builder("board.event-bus.dropped", ringBuffer, EventRingBuffer::getDroppedCount).register(meterRegistry);
+        FunctionCounter.builder("board.event-bus.resyncs", resyncs, LongAdder::sum).register(meterRegistry);
+        // 가장 뒤처진 구독자의 미처리 이벤트 수
+        Gauge.builder("board.event-bus.lag", ringBuffer, buffer -> buffer.getConsumerStats().stream()
+                        .mapToLong(EventRingBuffer.ConsumerStats::getLag)
+                        .max()
+                        .orElse(0))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후에 이벤트 발행 (롤백되면 발행하지 않음)
+     */
+    public void publishAfterCommit(BoardEvent event) {
+        TransactionUtil.runAfterCommit(() -> publish(event));
+    }
+
+    public void publish(BoardEvent event) {
+        if (!ringBuffer.publish(event, publishTimeoutNanos)) {
+            resyncPending.set(true);
+            log.warn("게시판 이벤트 버퍼가 가득 차서 이벤트를 버림, 구독자 상태를 다시 만듦: type={}, postId={}",
+                    event.getType(), event.getPostId());
+        }
+    }
+
+    /**
+     * 버린 이벤트가 있으면 resync 표식 발행 (기다리지 않고, 버퍼가 아직 가득 차 있으면 다음 주기에 다시 시도)
+     * 표식보다 먼저 버려진 이벤트는 모두 resync에 반영되고, 표식을 넣은 뒤에 버려진 이벤트는 다음 resync에 반영됨
+     */
+    @Scheduled(fixedDelayString = "${board.event-bus.resync-interval-ms:1000}")
+    public void requestResyncIfDropped() {
+        if (resyncPending.getAndSet(false)) {
+            if (ringBuffer.publish(BoardEvent.RESYNC, 0)) {
+                resyncs.increment();
+            } else {
+                resyncPending.set(true);
+            }
+        }
+    }
+
+    public EventBusStatsResponse getStats() {
+        return new EventBusStatsResponse(ringBuffer.getCapacity(), ringBuffer.getPublishedCount(),
+                ringBuffer.getDroppedCount(), ringBuffer.getConsumerStats());
+    }
+
+    // resync 표식 앞뒤로 묶음을 나눠서 전달
+    private static void deliver(BoardEventSubscriber subscriber, List<BoardEvent> batch) {
+        int from = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i) == BoardEvent.RESYNC) {
+                if (i > from) {
+                    subscriber.onEvents(batch.subList(from, i));
+                }
+                subscriber.resync();
+                from = i + 1;
+            }
+        }
+        if (from < batch.size()) {
+            subscriber.onEvents(from == 0 ? batch : batch.subList(from, batch.size()));
+        }
+    }
+
+    // 종료 전에 버퍼에 남은 이벤트를 처리
+    @PreDestroy
+    public void shutdown() {
+        ringBuffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+}
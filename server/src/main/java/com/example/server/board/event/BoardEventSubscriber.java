@@ -0,0 +1,21 @@
+package com.example.server.board.event;
+
+import java.util.List;
+
+/**
+ * 게시판 이벤트 구독자
+ * 구독자마다 전용 스레드에서 발행 순서대로 묶음(batch)으로 호출되므로, 구현체는 한 스레드에서만 호출된다고 가정해도 됨
+ * (다른 요청 스레드와 공유하는 상태는 직접 동기화해야 함)
+ */
+public interface BoardEventSubscriber {
+
+    void onEvents(List<BoardEvent> events);
+
+    /**
+     * 버퍼가 가득 차서 버려진 이벤트가 있을 때 DB에서 상태를 다시 만듦
+     * onEvents와 같은 스레드에서 발행 순서대로 호출되므로, 이후 이벤트는 다시 만든 상태에 이어서 반영됨
+     * 이벤트로만 유지되는 상태가 없는 구독자는 구현하지 않음
+     */
+    default void resync() {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.server.board.exception;
+
+public class BoardImportException extends RuntimeException {
+    public BoardImportException(String message) {
+        super(message);
+    }
+
+    public BoardImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
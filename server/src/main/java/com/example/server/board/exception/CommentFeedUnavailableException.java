@@ -0,0 +1,10 @@
+package com.example.server.board.exception;
+
+import com.example.server.global.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+public class CommentFeedUnavailableException extends DomainException {
+    public CommentFeedUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
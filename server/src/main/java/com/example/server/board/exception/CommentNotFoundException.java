@@ -1,7 +1,16 @@
 package com.example.server.board.exception;
 
-public class CommentNotFoundException extends RuntimeException {
-    public CommentNotFoundException(String message) {
-        super(message);
+import com.example.server.global.exception.DomainException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class CommentNotFoundException extends DomainException {
+
+    private final Long commentId;
+
+    public CommentNotFoundException(Long commentId) {
+        super(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+        this.commentId = commentId;
     }
 }
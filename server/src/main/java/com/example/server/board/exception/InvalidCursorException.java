@@ -0,0 +1,10 @@
+package com.example.server.board.exception;
+
+import com.example.server.global.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends DomainException {
+    public InvalidCursorException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
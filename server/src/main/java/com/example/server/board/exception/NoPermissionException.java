@@ -1,11 +1,10 @@
 package com.example.server.board.exception;
 
+import com.example.server.global.exception.DomainException;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
 
-@ResponseStatus(HttpStatus.FORBIDDEN)
-public class NoPermissionException extends RuntimeException {
+public class NoPermissionException extends DomainException {
     public NoPermissionException(String message) {
-        super(message);
+        super(HttpStatus.FORBIDDEN, message);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,16 @@
 package com.example.server.board.exception;
 
-public class PostNotFoundException extends RuntimeException {
-    public PostNotFoundException(String message) {
-        super(message);
+import com.example.server.global.exception.DomainException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class PostNotFoundException extends DomainException {
+
+    private final Long postId;
+
+    public PostNotFoundException(Long postId) {
+        super(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        this.postId = postId;
     }
 }
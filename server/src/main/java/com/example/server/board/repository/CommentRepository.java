@@ -1,7 +1,36 @@
 package com.example.server.board.repository;
 
+import com.example.server.board.dto.CommentResponse;
 import com.example.server.board.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 게시글의 첫 댓글 페이지 DTO projection, idx_comments_post_id_created_at_id 인덱스 사용
+    @Query("select new com.example.server.board.dto.CommentResponse(" +
+            "c.id, c.content, c.author.id, c.createdAt, c.updatedAt) " +
+            "from Comment c where c.post.id = :postId order by c.createdAt asc, c.id asc")
+    List<CommentResponse> findCommentResponsesByPostId(@Param("postId") Long postId, Limit limit);
+
+    // 커서 (createdAt, id) 이후의 댓글 페이지, offset 없이 인덱스를 바로 탐색함
+    @Query("select new com.example.server.board.dto.CommentResponse(" +
+            "c.id, c.content, c.author.id, c.createdAt, c.updatedAt) " +
+            "from Comment c where c.post.id = :postId and (c.createdAt, c.id) > (:createdAt, :id) " +
+            "order by c.createdAt asc, c.id asc")
+    List<CommentResponse> findCommentResponsesByPostIdAfter(@Param("postId") Long postId,
+                                                            @Param("createdAt") OffsetDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Limit limit);
+
+    // 게시글의 댓글을 엔티티로 읽지 않고 한 번의 DELETE 문으로 삭제 (post_id로 시작하는 인덱스 사용)
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
 }
@@ -1,16 +1,96 @@
 package com.example.server.board.repository;
 
+import com.example.server.board.dto.PostDeleteTarget;
+import com.example.server.board.dto.PostListResponse;
+import com.example.server.board.dto.PostResponse;
+import com.example.server.board.dto.PostVersion;
 import com.example.server.board.entity.Post;
+import com.example.server.board.search.SearchDocument;
+import com.example.server.global.common.ContentVersions;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 상세 조회용 DTO projection, author는 FK 값만 사용하므로 auth.users 조인 없음
+    @Query("select new com.example.server.board.dto.PostResponse(" +
+            "p.id, p.title, p.content, p.author.id, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) " +
+            "from Post p where p.id = :postId")
+    Optional<PostResponse> findPostResponseById(@Param("postId") Long postId);
+
+    // 목록용 요약 projection, content TEXT 컬럼은 읽지 않음
     @Query(
-            value = "select distinct p from Post p join fetch p.author a",
+            value = "select new com.example.server.board.dto.PostListResponse(" +
+                    "p.id, p.title, p.author.id, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) " +
+                    "from Post p",
             countQuery = "select count(p) from Post p"
     )
-    Page<Post> findAllWithAuthor(Pageable pageable);
-}
\ No newline at end of file
+    Page<PostListResponse> findPostSummaries(Pageable pageable);
+
+    // 최신 게시글 첫 페이지, idx_posts_created_at_id 인덱스 순서 그대로 읽음
+    @Query("select new com.example.server.board.dto.PostListResponse(" +
+            "p.id, p.title, p.author.id, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) " +
+            "from Post p order by p.createdAt desc, p.id desc")
+    List<PostListResponse> findLatestPostSummaries(Limit limit);
+
+    // 커서 (createdAt, id) 보다 오래된 게시글 페이지, offset/count 없이 인덱스 탐색
+    @Query("select new com.example.server.board.dto.PostListResponse(" +
+            "p.id, p.title, p.author.id, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) " +
+            "from Post p where (p.createdAt, p.id) < (:createdAt, :id) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostListResponse> findLatestPostSummariesBefore(@Param("createdAt") OffsetDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Limit limit);
+
+    // 검색 색인 구축용, id 순서로 끊어서 읽음
+    @Query("select new com.example.server.board.search.SearchDocument(p.id, p.title, p.content) " +
+            "from Post p where p.id > :afterId order by p.id asc")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 검색 결과 페이지의 요약 정보 조회 (순서는 호출하는 쪽에서 점수순으로 맞춤)
+    @Query("select new com.example.server.board.dto.PostListResponse(" +
+            "p.id, p.title, p.author.id, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) " +
+            "from Post p where p.id in :ids")
+    List<PostListResponse> findPostSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 댓글 수를 읽고-쓰기 없이 DB에서 원자적으로 증감 (상세 ETag용 댓글 버전도 함께 올림)
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.commentVersion = p.commentVersion + 1 " +
+            "where p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 댓글 수정 시 상세 ETag용 댓글 버전만 올림
+    @Modifying
+    @Query("update Post p set p.commentVersion = p.commentVersion + 1 where p.id = :postId")
+    int increaseCommentVersion(@Param("postId") Long postId);
+
+    // 상세 ETag용 버전 (PK 조회 한 번, 전체 버전은 content_versions 에서 subquery로 함께 읽음)
+    @Query("select new com.example.server.board.dto.PostVersion(p.updatedAt, p.commentVersion, " +
+            "coalesce((select v.version from ContentVersion v where v.name = '" + ContentVersions.GLOBAL + "'), 0L)) " +
+            "from Post p where p.id = :postId")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
+    // 게시글 삭제 시 posts 행을 먼저 잠그고 작성자와 누적 조회수를 읽음
+    // 조회수 반영(ViewCountService.flush)과 같은 posts -> user_stats 순서로 잠그고, 잠근 동안 조회수가 바뀌지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.server.board.dto.PostDeleteTarget(p.author.id, p.viewCount) from Post p where p.id = :postId")
+    Optional<PostDeleteTarget> findDeleteTargetForUpdate(@Param("postId") Long postId);
+
+    // 댓글을 먼저 bulk 삭제한 뒤 호출, comments 컬렉션 cascade를 거치지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Post p where p.id = :postId")
+    int deleteByIdInBulk(@Param("postId") Long postId);
+}
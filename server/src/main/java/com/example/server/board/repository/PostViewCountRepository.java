@@ -0,0 +1,33 @@
+package com.example.server.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 일괄 반영 전용 Repository
+ * 엔티티 dirty checking 없이 JDBC batch로 view_count = view_count + ? 를 한 번에 실행함
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+            "update posts set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 조회수 증가분을 원자적 UPDATE 배치로 반영
+     * @param deltas 게시글 ID -> 증가분
+     */
+    public void increaseViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, batchArgs);
+    }
+}
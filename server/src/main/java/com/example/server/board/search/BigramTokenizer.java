@@ -0,0 +1,57 @@
+package com.example.server.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 검색용 bigram 토크나이저
+ * 형태소 분석 없이 글자/숫자 구간을 2글자씩 겹쳐 자르므로 조사가 붙은 단어도 검색됨
+ * 예) "졸업요건을" -> [졸업, 업요, 요건, 건을]
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 텍스트를 bigram 토큰 목록으로 변환 (중복 포함)
+     * 한 글자짜리 구간은 그 글자 자체를 토큰으로 사용
+     * @param text 원문
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        // 전각/반각, 호환 자모 등을 통일하고 영문은 소문자로 맞춤
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int runStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean inRun = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                addRunTokens(codePoints, runStart, i, tokens);
+                runStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addRunTokens(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.server.board.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 메모리 역색인 (토큰 -> posting list)
+ * 게시글 ID는 내부 문서 번호(int)로 매핑하고, 수정/삭제된 문서는 tombstone 처리 후
+ * tombstone이 살아있는 문서보다 많아지면 문서 번호를 다시 매기면서 정리함
+ * 읽기(검색)는 동시에 여러 스레드가, 쓰기(색인 변경)는 한 스레드만 수행
+ */
+public class InvertedIndex {
+
+    // 제목에 나온 토큰은 본문보다 높은 가중치를 줌
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_DELETED_FOR_COMPACTION = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> postToDoc = new HashMap<>();
+    private BitSet deletedDocs = new BitSet();
+    private long[] docToPost = new long[1024];
+    private int nextDocId;
+    private int deletedCount;
+    // 초기 색인 중에 삭제된 게시글 (스냅샷으로 다시 색인되지 않도록 기억, 초기 색인 중이 아니면 null)
+    private Set<Long> removedWhileBuilding;
+
+    /**
+     * 게시글 색인 (이미 있으면 기존 문서를 지우고 새로 색인)
+     */
+    public void index(long postId, String title, String content) {
+        Map<String, Integer> weights = tokenize(title, content);
+
+        lock.writeLock().lock();
+        try {
+            indexInternal(postId, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 게시글만 색인
+     * 초기 색인 도중 들어온 증분 색인(더 최신 내용)이나 삭제를 스냅샷 내용으로 덮어쓰지 않기 위해 사용
+     * 확인과 색인을 같은 write lock 안에서 수행함
+     */
+    public void indexIfAbsent(long postId, String title, String content) {
+        Map<String, Integer> weights = tokenize(title, content);
+
+        lock.writeLock().lock();
+        try {
+            if (postToDoc.containsKey(postId)
+                    || (removedWhileBuilding != null && removedWhileBuilding.contains(postId))) {
+                return;
+            }
+            indexInternal(postId, weights);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 색인 시작: 이후 finishBuild까지 삭제된 게시글은 indexIfAbsent로 다시 색인되지 않음
+     */
+    public void startBuild() {
+        lock.writeLock().lock();
+        try {
+            removedWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishBuild() {
+        lock.writeLock().lock();
+        try {
+            removedWhileBuilding = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            if (removedWhileBuilding != null) {
+                removedWhileBuilding.add(postId);
+            }
+            removeInternal(postId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postToDoc.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 토큰을 포함하는 게시글을 점수순으로 조회
+     * 점수 = sum(토큰 가중치 * idf), 동점이면 최신(나중에 색인된) 문서 우선
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return SearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return SearchResult.empty();
+                }
+                lists.add(list);
+            }
+            // 문서 수가 적은 posting list부터 교집합을 구해서 후보를 빠르게 줄임
+            lists.sort((a, b) -> Integer.compare(a.getDocumentCount(), b.getDocumentCount()));
+
+            int totalDocs = Math.max(postToDoc.size(), 1);
+            Candidates candidates = null;
+            for (PostingList list : lists) {
+                double idf = Math.log(1 + (double) totalDocs / list.getDocumentCount());
+                candidates = candidates == null ? Candidates.from(list, idf) : candidates.intersect(list, idf);
+                if (candidates.size == 0) {
+                    return SearchResult.empty();
+                }
+            }
+            return candidates.toResult(deletedDocs, docToPost, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> tokenize(String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : BigramTokenizer.tokenize(title)) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : BigramTokenizer.tokenize(content)) {
+            weights.merge(token, 1, Integer::sum);
+        }
+        return weights;
+    }
+
+    // write lock 보유 상태에서 호출
+    private void indexInternal(long postId, Map<String, Integer> weights) {
+        removeInternal(postId);
+
+        int docId = nextDocId++;
+        if (docId == docToPost.length) {
+            docToPost = Arrays.copyOf(docToPost, docToPost.length * 2);
+        }
+        docToPost[docId] = postId;
+        postToDoc.put(postId, docId);
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new PostingList()).add(docId, weight));
+
+        // 수정도 이전 문서를 tombstone으로 남기므로 삭제와 같은 기준으로 정리
+        compactIfNeeded();
+    }
+
+    private void removeInternal(long postId) {
+        Integer docId = postToDoc.remove(postId);
+        if (docId != null) {
+            deletedDocs.set(docId);
+            deletedCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount > postToDoc.size()) {
+            compact();
+        }
+    }
+
+    // tombstone 문서를 posting list에서 실제로 제거하고, 살아있는 문서에 순서를 유지한 채 문서 번호를 다시 매김
+    // (문서 번호 배열과 tombstone BitSet도 살아있는 문서 수만큼으로 줄어듦, write lock 보유 상태에서 호출)
+    private void compact() {
+        int[] renumbered = new int[nextDocId];
+        long[] compactedDocToPost = new long[Math.max(1024, postToDoc.size() * 2)];
+        int liveDocs = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (deletedDocs.get(docId)) {
+                renumbered[docId] = -1;
+            } else {
+                renumbered[docId] = liveDocs;
+                compactedDocToPost[liveDocs] = docToPost[docId];
+                liveDocs++;
+            }
+        }
+
+        Iterator<Map.Entry<String, PostingList>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PostingList> entry = iterator.next();
+            PostingList compacted = new PostingList();
+            entry.getValue().forEach((docId, weight) -> {
+                if (renumbered[docId] >= 0) {
+                    compacted.add(renumbered[docId], weight);
+                }
+            });
+            if (compacted.getDocumentCount() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(compacted);
+            }
+        }
+
+        postToDoc.replaceAll((postId, docId) -> renumbered[docId]);
+        docToPost = compactedDocToPost;
+        nextDocId = liveDocs;
+        deletedDocs = new BitSet();
+        deletedCount = 0;
+    }
+
+    // 지금까지 사용한 문서 번호 수 (테스트용)
+    int getDocIdCount() {
+        lock.readLock().lock();
+        try {
+            return nextDocId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 교집합 후보 문서 (문서 번호 오름차순, 누적 점수)
+     */
+    private static class Candidates implements PostingList.PostingConsumer {
+        private int[] docIds;
+        private double[] scores;
+        private int size;
+
+        // intersect 진행 중 상태
+        private int[] nextDocIds;
+        private double[] nextScores;
+        private int nextSize;
+        private int cursor;
+        private double idf;
+
+        static Candidates from(PostingList list, double idf) {
+            Candidates candidates = new Candidates();
+            candidates.docIds = new int[list.getDocumentCount()];
+            candidates.scores = new double[list.getDocumentCount()];
+            list.forEach((docId, weight) -> {
+                candidates.docIds[candidates.size] = docId;
+                candidates.scores[candidates.size] = weight * idf;
+                candidates.size++;
+            });
+            return candidates;
+        }
+
+        Candidates intersect(PostingList list, double idf) {
+            nextDocIds = new int[size];
+            nextScores = new double[size];
+            nextSize = 0;
+            cursor = 0;
+            this.idf = idf;
+            list.forEach(this);
+
+            docIds = nextDocIds;
+            scores = nextScores;
+            size = nextSize;
+            nextDocIds = null;
+            nextScores = null;
+            return this;
+        }
+
+        @Override
+        public void accept(int docId, int weight) {
+            while (cursor < size && docIds[cursor] < docId) {
+                cursor++;
+            }
+            if (cursor < size && docIds[cursor] == docId) {
+                nextDocIds[nextSize] = docId;
+                nextScores[nextSize] = scores[cursor] + weight * idf;
+                nextSize++;
+                cursor++;
+            }
+        }
+
+        SearchResult toResult(BitSet deletedDocs, long[] docToPost, int offset, int limit) {
+            List<Integer> hits = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (!deletedDocs.get(docIds[i])) {
+                    hits.add(i);
+                }
+            }
+            hits.sort((a, b) -> {
+                int byScore = Double.compare(scores[b], scores[a]);
+                return byScore != 0 ? byScore : Integer.compare(docIds[b], docIds[a]);
+            });
+
+            List<Long> postIds = new ArrayList<>();
+            // offset + limit이 int 범위를 넘어도 음수가 되지 않도록 long으로 계산
+            int end = (int) Math.min(hits.size(), (long) offset + limit);
+            for (int i = Math.max(0, offset); i < end; i++) {
+                postIds.add(docToPost[docIds[hits.get(i)]]);
+            }
+            return new SearchResult(postIds, hits.size());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.server.board.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 토큰의 posting list
+ * (문서 번호 차이, 가중치) 쌍을 variable-byte로 인코딩해 byte 배열 하나에 저장함
+ * 문서 번호는 항상 증가하는 순서로만 추가되므로 차이값이 작아 대부분 1바이트로 표현됨
+ */
+class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int documentCount;
+    private int lastDocId = -1;
+
+    void add(int docId, int weight) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId는 증가하는 순서로 추가되어야 함: " + docId);
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(weight);
+        lastDocId = docId;
+        documentCount++;
+    }
+
+    int getDocumentCount() {
+        return documentCount;
+    }
+
+    /**
+     * 모든 (문서 번호, 가중치) 쌍을 순서대로 디코딩해 전달
+     */
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            int weight = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                weight |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            docId += delta;
+            consumer.accept(docId, weight);
+        }
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int docId, int weight);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.server.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 색인 대상 게시글 (초기 색인 시 JPQL constructor projection 으로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchDocument {
+    private Long id;
+    private String title;
+    private String content;
+}
@@ -0,0 +1,20 @@
+package com.example.server.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 역색인 검색 결과 (요청한 페이지의 게시글 ID와 전체 일치 건수)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+    private final List<Long> postIds;
+    private final int totalHits;
+
+    public static SearchResult empty() {
+        return new SearchResult(List.of(), 0);
+    }
+}
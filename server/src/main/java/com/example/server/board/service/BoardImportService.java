@@ -0,0 +1,211 @@
+package com.example.server.board.service;
+
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.board.dto.ImportResultResponse;
+import com.example.server.board.dto.PostImportRequest;
+import com.example.server.board.entity.Comment;
+import com.example.server.board.entity.Post;
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventBus;
+import com.example.server.board.exception.BoardImportException;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.global.util.TransactionUtil;
+import com.example.server.user.service.UserStatsService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 게시글/댓글 대량 가져오기 (기존 커뮤니티 이전용)
+ * NDJSON을 한 줄씩 읽으면서 batchSize 개씩 JDBC 배치 INSERT 후 flush/clear 하므로 입력 크기와 무관하게 힙 사용량이 일정함
+ * chunkSize 개 게시글마다 트랜잭션을 커밋해서, 실패해도 그 전까지 가져온 내용은 유지됨
+ */
+@Slf4j
+@Service
+@Observed
+public class BoardImportService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BoardEventBus boardEventBus;
+    private final ContentVersions contentVersions;
+    private final UserStatsService userStatsService;
+    private final int batchSize;
+    private final int chunkSize;
+
+    public BoardImportService(EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              BoardEventBus boardEventBus,
+                              ContentVersions contentVersions,
+                              UserStatsService userStatsService,
+                              @Value("${board.import.batch-size:50}") int batchSize,
+                              @Value("${board.import.chunk-size:1000}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.boardEventBus = boardEventBus;
+        this.contentVersions = contentVersions;
+        this.userStatsService = userStatsService;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * NDJSON 입력의 게시글과 댓글을 가져옴
+     * @param input 한 줄에 PostImportRequest 하나씩 들어있는 NDJSON
+     * @return 가져온 개수와 처리량
+     */
+    public ImportResultResponse importPosts(InputStream input) {
+        long startedAt = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+
+        try (MappingIterator<PostImportRequest> rows = objectMapper.readerFor(PostImportRequest.class).readValues(input)) {
+            while (hasNext(rows, progress)) {
+                transactionTemplate.executeWithoutResult(status -> importChunk(rows, progress));
+                log.info("게시글 가져오기 진행: 게시글 {}건, 댓글 {}건", progress.posts, progress.comments);
+            }
+        } catch (IOException e) {
+            throw new BoardImportException(progress.describeFailure("입력을 읽을 수 없습니다"), e);
+        } catch (DataAccessException e) {
+            // 현재 chunk는 롤백됨
+            throw new BoardImportException(progress.describeFailure("저장에 실패했습니다 (존재하지 않는 작성자 등)"), e);
+        }
+
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        long rowsPerSecond = (progress.posts + progress.comments) * 1000 / elapsedMillis;
+        log.info("게시글 가져오기 완료: 게시글 {}건, 댓글 {}건, {}ms ({} rows/s)",
+                progress.posts, progress.comments, elapsedMillis, rowsPerSecond);
+        return new ImportResultResponse(progress.posts, progress.comments, elapsedMillis, rowsPerSecond);
+    }
+
+    // 트랜잭션 하나에서 최대 chunkSize 개 게시글을 가져옴
+    private void importChunk(MappingIterator<PostImportRequest> rows, ImportProgress progress) {
+        // IDENTITY와 달리 pooled sequence는 ID를 미리 할당하므로 INSERT를 배치로 묶을 수 있음
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        List<Comment> pendingComments = new ArrayList<>();
+        // 작성자별 {게시글 수, 댓글 수, 조회수} 증가분, chunk 끝에서 한 번에 반영
+        Map<UUID, long[]> statsDeltas = new HashMap<>();
+        int postsInWindow = 0;
+        long chunkPosts = 0;
+        long chunkComments = 0;
+
+        while (chunkPosts < chunkSize && hasNext(rows, progress)) {
+            PostImportRequest row = rows.next();
+            int line = rows.getCurrentLocation().getLineNr();
+            Post post = toPost(row, line);
+            entityManager.persist(post);
+            // 검색 색인, 인기 랭킹, 메트릭 구독자가 새 게시글과 같은 경로로 받도록 커밋 후 이벤트 버스로 발행
+            boardEventBus.publishAfterCommit(BoardEvent.postImported(post.getId(), post.getTitle(), post.getContent(),
+                    post.getCreatedAt(), post.getViewCount(), post.getCommentCount()));
+
+            long[] authorDelta = statsDeltas.computeIfAbsent(row.getAuthorId(), id -> new long[3]);
+            authorDelta[0]++;
+            authorDelta[2] += post.getViewCount();
+            for (PostImportRequest.CommentImportRequest commentRow : row.getComments()) {
+                pendingComments.add(toComment(commentRow, post, line));
+                statsDeltas.computeIfAbsent(commentRow.getAuthorId(), id -> new long[3])[1]++;
+            }
+            chunkPosts++;
+            chunkComments += row.getComments().size();
+            progress.line = line;
+
+            // 게시글을 먼저 모아서 넣고 댓글을 이어서 넣어야 같은 INSERT 문끼리 배치로 묶임
+            if (++postsInWindow == batchSize) {
+                flushWindow(pendingComments);
+                postsInWindow = 0;
+            }
+        }
+        flushWindow(pendingComments);
+        userStatsService.imported(statsDeltas);
+        contentVersions.globalChanged();
+
+        // 커밋 이후에 반영 (롤백되면 진행 상황에 포함하지 않음)
+        progress.committedAfter(chunkPosts, chunkComments);
+    }
+
+    private void flushWindow(List<Comment> pendingComments) {
+        pendingComments.forEach(entityManager::persist);
+        pendingComments.clear();
+        entityManager.flush();
+        // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 비움
+        entityManager.clear();
+    }
+
+    private Post toPost(PostImportRequest row, int line) {
+        if (isBlank(row.getTitle()) || isBlank(row.getContent()) || row.getAuthorId() == null) {
+            throw new BoardImportException("line " + line + ": title, content, authorId는 필수입니다.");
+        }
+        Post post = new Post();
+        post.setTitle(row.getTitle());
+        post.setContent(row.getContent());
+        // 작성자는 조회 없이 참조만 연결 (없는 사용자면 flush 시 FK 위반)
+        post.setAuthor(entityManager.getReference(AuthUser.class, row.getAuthorId()));
+        post.setViewCount(row.getViewCount() != null ? row.getViewCount() : 0);
+        post.setCommentCount(row.getComments().size());
+        // 원래 작성 시각을 유지 (없으면 저장 시각), 가져온 게시글은 수정되지 않은 상태로 둠
+        post.setCreatedAt(row.getCreatedAt());
+        post.setUpdatedAt(row.getCreatedAt());
+        return post;
+    }
+
+    private Comment toComment(PostImportRequest.CommentImportRequest row, Post post, int line) {
+        if (isBlank(row.getContent()) || row.getAuthorId() == null) {
+            throw new BoardImportException("line " + line + ": 댓글의 content, authorId는 필수입니다.");
+        }
+        Comment comment = new Comment();
+        comment.setContent(row.getContent());
+        comment.setAuthor(entityManager.getReference(AuthUser.class, row.getAuthorId()));
+        comment.setPost(post);
+        comment.setCreatedAt(row.getCreatedAt());
+        comment.setUpdatedAt(row.getCreatedAt());
+        return comment;
+    }
+
+    private boolean hasNext(MappingIterator<PostImportRequest> rows, ImportProgress progress) {
+        try {
+            return rows.hasNextValue();
+        } catch (IOException e) {
+            throw new BoardImportException(progress.describeFailure("잘못된 JSON 형식입니다"), e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 커밋된 개수와 마지막으로 읽은 줄 번호
+    private static class ImportProgress {
+        private long posts;
+        private long comments;
+        private int line;
+
+        void committedAfter(long chunkPosts, long chunkComments) {
+            TransactionUtil.runAfterCommit(() -> {
+                posts += chunkPosts;
+                comments += chunkComments;
+            });
+        }
+
+        String describeFailure(String reason) {
+            return reason + " (line " + (line + 1) + " 부근, 이전까지 게시글 " + posts + "건, 댓글 " + comments + "건 가져옴)";
+        }
+    }
+}
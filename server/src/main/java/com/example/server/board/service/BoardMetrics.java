@@ -0,0 +1,55 @@
+package com.example.server.board.service;
+
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventSubscriber;
+import com.example.server.board.search.SearchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 커스텀 메트릭
+ * - board.writes: 커밋된 게시글/댓글 작성/수정/삭제 수 (이벤트 버스 구독이라 롤백된 요청은 세지 않음)
+ * - board.search: 메모리 역색인 검색 시간, board.search.hits: 검색 결과 수
+ */
+@Component
+public class BoardMetrics implements BoardEventSubscriber {
+
+    private final Map<BoardEvent.Type, Counter> writeCounters = new EnumMap<>(BoardEvent.Type.class);
+    private final Timer searchTimer;
+    private final DistributionSummary searchHits;
+
+    public BoardMetrics(MeterRegistry meterRegistry) {
+        for (BoardEvent.Type type : BoardEvent.Type.values()) {
+            // POST_CREATED -> target=post, action=created
+            String[] parts = type.name().toLowerCase(Locale.ROOT).split("_");
+            writeCounters.put(type, Counter.builder("board.writes")
+                    .tag("target", parts[0])
+                    .tag("action", parts[1])
+                    .register(meterRegistry));
+        }
+        this.searchTimer = Timer.builder("board.search").register(meterRegistry);
+        this.searchHits = DistributionSummary.builder("board.search.hits").register(meterRegistry);
+    }
+
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            writeCounters.get(event.getType()).increment();
+        }
+    }
+
+    public SearchResult recordSearch(Supplier<SearchResult> search) {
+        SearchResult result = searchTimer.record(search);
+        searchHits.record(result.getTotalHits());
+        return result;
+    }
+}
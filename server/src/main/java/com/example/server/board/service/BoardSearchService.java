@@ -0,0 +1,94 @@
+package com.example.server.board.service;
+
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventSubscriber;
+import com.example.server.board.repository.PostRepository;
+import com.example.server.board.search.InvertedIndex;
+import com.example.server.board.search.SearchDocument;
+import com.example.server.board.search.SearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 색인 관리
+ * 시작 시 전체 게시글로 메모리 역색인을 만들고, 이후에는 게시글 생성/수정/삭제 이벤트를 받아 증분 반영함
+ * 검색어 매칭은 DB를 거치지 않고 색인에서만 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardSearchService implements BoardEventSubscriber {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    private final PostRepository postRepository;
+    // resync 때 새로 만든 색인으로 교체
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 시작 워밍업(StartupWarmup)보다 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void buildIndex() {
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex target = index;
+        // 색인 중에 삭제 이벤트가 먼저 처리된 게시글을 이전 스냅샷으로 되살리지 않도록 삭제된 ID를 기억함
+        target.startBuild();
+        try {
+            load(target);
+        } finally {
+            target.finishBuild();
+        }
+
+        log.info("게시글 검색 색인 완료: {}건, {}ms", target.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 버려진 이벤트가 있으면 DB에서 새 색인을 만들어 교체 (이벤트 스레드에서 실행되므로 그동안 들어온 이벤트는 교체 후 반영됨)
+     * 새 색인을 만드는 동안 검색은 기존 색인을 사용함
+     */
+    @Override
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex rebuilt = new InvertedIndex();
+        load(rebuilt);
+        index = rebuilt;
+        log.warn("버려진 이벤트가 있어 게시글 검색 색인을 다시 만듦: {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            switch (event.getType()) {
+                case POST_CREATED, POST_UPDATED -> index.index(event.getPostId(), event.getTitle(), event.getContent());
+                case POST_DELETED -> index.remove(event.getPostId());
+                default -> {
+                }
+            }
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    // 전체를 한 번에 올리지 않고 id 순서로 나눠서 색인
+    private void load(InvertedIndex target) {
+        long lastPostId = 0L;
+        List<SearchDocument> documents;
+        do {
+            documents = postRepository.findSearchDocumentsAfter(lastPostId, Limit.of(BUILD_BATCH_SIZE));
+            for (SearchDocument document : documents) {
+                target.indexIfAbsent(document.getId(), document.getTitle(), document.getContent());
+                lastPostId = document.getId();
+            }
+        } while (documents.size() == BUILD_BATCH_SIZE);
+    }
+}
@@ -1,73 +1,222 @@
 package com.example.server.board.service;
 
-import com.example.server.auth.entity.AuthUser;
 import com.example.server.auth.repository.AuthUserRepository;
+import com.example.server.auth.service.AuthorNicknameCache;
 import com.example.server.board.dto.CommentCreateRequest;
 import com.example.server.board.dto.CommentResponse;
 import com.example.server.board.dto.CommentUpdateRequest;
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.dto.KeysetCursor;
 import com.example.server.board.dto.PostCreateRequest;
+import com.example.server.board.dto.PostDeleteTarget;
+import com.example.server.board.dto.PostListResponse;
 import com.example.server.board.dto.PostResponse;
 import com.example.server.board.dto.PostUpdateRequest;
 import com.example.server.board.entity.Comment;
 import com.example.server.board.entity.Post;
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventBus;
 import com.example.server.board.exception.CommentNotFoundException;
 import com.example.server.board.exception.NoPermissionException;
 import com.example.server.board.exception.PostNotFoundException;
 import com.example.server.board.repository.CommentRepository;
 import com.example.server.board.repository.PostRepository;
+import com.example.server.board.search.SearchResult;
+import com.example.server.global.common.ContentVersions;
 import com.example.server.global.util.SecurityUtil;
+import com.example.server.user.service.UserStatsService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Observed
 public class BoardService {
 
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int MAX_POST_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_HOT_POST_SIZE = 50;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final AuthUserRepository authUserRepository;
+    private final AuthorNicknameCache authorNicknameCache;
+    private final BoardSearchService boardSearchService;
+    private final PostDetailCache postDetailCache;
+    private final ContentVersions contentVersions;
+    private final HotPostRanking hotPostRanking;
+    private final BoardEventBus boardEventBus;
+    private final UserStatsService userStatsService;
+    private final BoardMetrics boardMetrics;
 
-    @Transactional
-    public PostResponse getPostByPostId(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
-        // TODO: 동시성 문제를 해결하기 위해 추후 Redis나 Atomic Update 쿼리로 개선해야함
-        post.increaseViewCount();
+    /**
+     * 게시글 상세 ETag (PK 조회 한 번으로 수정 시각, 댓글 버전, 전체 버전을 읽음)
+     * @param postId 게시글 ID
+     * @throws PostNotFoundException 게시글이 없을 때
+     */
+    public String getPostETag(Long postId) {
+        return postRepository.findVersionById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId))
+                .toETag();
+    }
 
-        List<CommentResponse> commentResponses = post.getComments().stream()
-                .map(CommentResponse::new)
-                .collect(Collectors.toList());
+    /**
+     * 게시글 존재 여부 확인 (본문을 읽지 않는 조회 전에 사용)
+     * @param postId 게시글 ID
+     * @throws PostNotFoundException 게시글이 없을 때
+     */
+    public void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(postId);
+        }
+    }
+
+    /**
+     * 게시글 상세 조회 (조회수 증가 없음, viewCount는 DB에 반영된 값)
+     * 게시글, 첫 댓글 페이지, 작성자 닉네임을 각각 projection 쿼리 한 번씩으로 조회 (댓글 수와 무관하게 최대 3번)
+     * @param postId 게시글 ID
+     */
+    public PostResponse findPostDetail(Long postId) {
+        PostResponse response = postRepository.findPostResponseById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId));
+
+        CursorPageResponse<CommentResponse> commentPage = findCommentPage(postId, null, DEFAULT_COMMENT_PAGE_SIZE);
 
-        PostResponse response = new PostResponse(post);
-        response.setComments(commentResponses);
+        // 게시글 작성자와 댓글 작성자의 닉네임을 한 번에 조회
+        Set<UUID> authorIds = new HashSet<>();
+        authorIds.add(response.getAuthorId());
+        commentPage.getContent().forEach(comment -> authorIds.add(comment.getAuthorId()));
+        Map<UUID, String> nicknames = authorNicknameCache.getNicknames(authorIds);
+
+        commentPage.getContent().forEach(comment -> comment.setAuthorNickname(nicknames.get(comment.getAuthorId())));
+        response.setAuthorNickname(nicknames.get(response.getAuthorId()));
+        response.setComments(commentPage.getContent());
+        response.setCommentsNextCursor(commentPage.getNextCursor());
 
         return response;
     }
 
-    public Page<PostResponse> getPosts(Pageable pageable) {
-        return postRepository.findAllWithAuthor(pageable).map(PostResponse::new);
+    public Page<PostListResponse> getPosts(Pageable pageable) {
+        // 본문 없이 요약 컬럼만 projection 으로 조회, 닉네임은 페이지 단위로 한 번에 조회
+        Page<PostListResponse> posts = postRepository.findPostSummaries(pageable);
+        fillAuthorNicknames(posts.getContent());
+        return posts;
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 (최신순)
+     * (createdAt desc, id desc) keyset 탐색으로 offset과 count 쿼리 없이 조회함
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size 페이지 크기 (최대 MAX_POST_PAGE_SIZE)
+     */
+    public CursorPageResponse<PostListResponse> getPostsByCursor(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_POST_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        List<PostListResponse> posts = keysetCursor == null
+                ? postRepository.findLatestPostSummaries(limit)
+                : postRepository.findLatestPostSummariesBefore(keysetCursor.getCreatedAt(), keysetCursor.getId(), limit);
+        CursorPageResponse<PostListResponse> page = CursorPageResponse.of(posts, pageSize,
+                post -> new KeysetCursor(post.getCreatedAt(), post.getId()));
+
+        fillAuthorNicknames(page.getContent());
+        return page;
+    }
+
+    /**
+     * 게시글 검색
+     * 검색어 매칭과 정렬은 메모리 역색인에서 수행하고, DB에서는 결과 페이지의 요약 정보만 ID로 조회함
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 MAX_SEARCH_PAGE_SIZE)
+     */
+    public Page<PostListResponse> searchPosts(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+
+        // 큰 페이지 번호의 offset이 int를 넘지 않도록 제한 (검색 결과 수보다 크면 빈 페이지)
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        SearchResult result = boardMetrics.recordSearch(() -> boardSearchService.search(query, offset, pageSize));
+        if (result.getPostIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.getTotalHits());
+        }
+
+        Map<Long, PostListResponse> summaries = postRepository.findPostSummariesByIdIn(result.getPostIds()).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        // 색인의 점수순을 유지 (색인 반영 직후 삭제된 게시글은 제외)
+        List<PostListResponse> posts = result.getPostIds().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        fillAuthorNicknames(posts);
+
+        return new PageImpl<>(posts, pageable, result.getTotalHits());
+    }
+
+    /**
+     * 인기 게시글 조회
+     * 순위는 메모리의 랭킹에서 읽고, DB에서는 해당 게시글의 요약 정보만 ID로 조회함
+     * @param size 개수 (최대 MAX_HOT_POST_SIZE)
+     */
+    public List<PostListResponse> getHotPosts(int size) {
+        List<Long> postIds = hotPostRanking.getTopPostIds(Math.min(Math.max(size, 1), MAX_HOT_POST_SIZE));
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostListResponse> summaries = postRepository.findPostSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        List<PostListResponse> posts = postIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        fillAuthorNicknames(posts);
+        return posts;
+    }
+
+    private void fillAuthorNicknames(List<PostListResponse> posts) {
+        Set<UUID> authorIds = posts.stream()
+                .map(PostListResponse::getAuthorId)
+                .collect(Collectors.toSet());
+        Map<UUID, String> nicknames = authorNicknameCache.getNicknames(authorIds);
+        posts.forEach(post -> post.setAuthorNickname(nicknames.get(post.getAuthorId())));
     }
 
     @Transactional
     public PostResponse createPost(PostCreateRequest request) {
         UUID authorId = SecurityUtil.getCurrentUserId();
-        AuthUser author = authUserRepository.findById(authorId)
-                .orElseThrow(() -> new RuntimeException("Author not found"));
 
         Post post = new Post();
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
-        post.setAuthor(author);
+        // 작성자는 FK만 필요하므로 SELECT 없이 참조 프록시로 연결 (인증된 사용자는 auth.users에 항상 존재)
+        post.setAuthor(authUserRepository.getReferenceById(authorId));
         Post savedPost = postRepository.save(post);
-        return new PostResponse(savedPost);
+        userStatsService.postCreated(authorId);
+        // 캐시/ETag 무효화는 다음 조회가 이전 데이터를 보지 않도록 바로 처리하고, 나머지 부가 작업은 커밋 후 이벤트로 비동기 처리
+        contentVersions.boardChanged(authorId);
+        boardEventBus.publishAfterCommit(BoardEvent.postCreated(savedPost.getId(), savedPost.getTitle(), savedPost.getContent()));
+        return new PostResponse(savedPost, authorNicknameCache.getNickname(authorId));
     }
 
     @Transactional
@@ -75,7 +224,7 @@ public class BoardService {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
 
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+                .orElseThrow(() -> new PostNotFoundException(postId));
 
         if (!post.getAuthor().getId().equals(currentUserId)) {
             throw new NoPermissionException("이 게시글을 수정할 권한이 없습니다.");
@@ -83,39 +232,86 @@ public class BoardService {
 
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
-        return new PostResponse(post);
+        postDetailCache.evict(postId);
+        // 다른 사용자 프로필의 댓글 목록에도 게시글 제목이 나오므로 전체 버전을 올림
+        contentVersions.globalChanged();
+        boardEventBus.publishAfterCommit(BoardEvent.postUpdated(postId, post.getTitle(), post.getContent()));
+        return new PostResponse(post, authorNicknameCache.getNickname(currentUserId));
     }
 
     @Transactional
     public void deletePost(Long postId) {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+        // posts 행을 먼저 잠가서 다른 쓰기(조회수 반영, 댓글 작성)와 같은 posts -> user_stats 잠금 순서를 지킴
+        PostDeleteTarget target = postRepository.findDeleteTargetForUpdate(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId));
+        UUID authorId = target.getAuthorId();
 
-        if (!post.getAuthor().getId().equals(currentUserId)) {
+        if (!authorId.equals(currentUserId)) {
             throw new NoPermissionException("이 게시글을 삭제할 권한이 없습니다.");
         }
 
-        postRepository.deleteById(postId);
+        // 통계에서 뺄 댓글 수를 읽어야 하므로 댓글 삭제 전에 반영 (조회수는 잠근 행에서 읽은 값)
+        userStatsService.postDeleted(postId, authorId, target.getViewCount());
+        // deleteById는 cascade로 댓글을 전부 로딩해서 한 건씩 지우므로, 댓글 수와 무관하게 DELETE 두 번으로 삭제
+        commentRepository.deleteAllByPostIdInBulk(postId);
+        postRepository.deleteByIdInBulk(postId);
+        postDetailCache.evict(postId);
+        contentVersions.globalChanged();
+        boardEventBus.publishAfterCommit(BoardEvent.postDeleted(postId));
     }
 
     // ================= Comment ===================
 
+    public CursorPageResponse<CommentResponse> getComments(Long postId, String cursor, int size) {
+        checkPostExists(postId);
+
+        CursorPageResponse<CommentResponse> commentPage = findCommentPage(postId, KeysetCursor.decode(cursor), size);
+
+        Set<UUID> authorIds = commentPage.getContent().stream()
+                .map(CommentResponse::getAuthorId)
+                .collect(Collectors.toSet());
+        Map<UUID, String> nicknames = authorNicknameCache.getNicknames(authorIds);
+        commentPage.getContent().forEach(comment -> comment.setAuthorNickname(nicknames.get(comment.getAuthorId())));
+
+        return commentPage;
+    }
+
+    // (createdAt, id) keyset 방식으로 댓글 한 페이지 조회, 닉네임은 호출하는 쪽에서 채움
+    private CursorPageResponse<CommentResponse> findCommentPage(Long postId, KeysetCursor cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 count 쿼리 없이 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CommentResponse> comments = cursor == null
+                ? commentRepository.findCommentResponsesByPostId(postId, limit)
+                : commentRepository.findCommentResponsesByPostIdAfter(postId, cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return CursorPageResponse.of(comments, pageSize,
+                comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
+    }
+
     @Transactional
     public CommentResponse createComment(Long postId, CommentCreateRequest request) {
         UUID authorId = SecurityUtil.getCurrentUserId();
-        AuthUser author = authUserRepository.findById(authorId)
-                .orElseThrow(() -> new RuntimeException("Author not found"));
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + postId));
+        // 댓글 수 증가 UPDATE로 게시글 존재 여부도 함께 확인하고, 게시글/작성자는 참조 프록시로만 연결
+        if (postRepository.increaseCommentCount(postId, 1) == 0) {
+            throw new PostNotFoundException(postId);
+        }
         Comment comment = new Comment();
-        comment.setPost(post);
+        comment.setPost(postRepository.getReferenceById(postId));
         comment.setContent(request.getContent());
-        comment.setAuthor(author);
+        comment.setAuthor(authUserRepository.getReferenceById(authorId));
         Comment savedComment = commentRepository.save(comment);
-        return new CommentResponse(savedComment);
+        userStatsService.commentCreated(authorId);
+        postDetailCache.evict(postId);
+        contentVersions.boardChanged(authorId);
+
+        CommentResponse response = new CommentResponse(savedComment, authorNicknameCache.getNickname(authorId));
+        boardEventBus.publishAfterCommit(BoardEvent.commentCreated(postId, response));
+        return response;
     }
 
     @Transactional
@@ -123,14 +319,20 @@ public class BoardService {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
 
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + commentId));
+                .orElseThrow(() -> new CommentNotFoundException(commentId));
 
         if (!comment.getAuthor().getId().equals(currentUserId)) {
             throw new NoPermissionException("이 댓글을 수정할 권한이 없습니다.");
         }
 
         comment.setContent(request.getContent());
-        return new CommentResponse(comment);
+        postRepository.increaseCommentVersion(comment.getPost().getId());
+        postDetailCache.evict(comment.getPost().getId());
+        contentVersions.userChanged(currentUserId);
+
+        CommentResponse response = new CommentResponse(comment, authorNicknameCache.getNickname(currentUserId));
+        boardEventBus.publishAfterCommit(BoardEvent.commentUpdated(comment.getPost().getId(), response));
+        return response;
     }
 
     @Transactional
@@ -138,12 +340,18 @@ public class BoardService {
         UUID currentUserId = SecurityUtil.getCurrentUserId();
 
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException("Comment not found with id: " + commentId));
+                .orElseThrow(() -> new CommentNotFoundException(commentId));
 
         if (!comment.getAuthor().getId().equals(currentUserId)) {
             throw new NoPermissionException("이 댓글을 삭제할 권한이 없습니다.");
         }
 
+        // 게시글 삭제와 같은 posts -> comments 순서로 잠금
+        postRepository.increaseCommentCount(comment.getPost().getId(), -1);
         commentRepository.deleteById(commentId);
+        userStatsService.commentDeleted(currentUserId);
+        postDetailCache.evict(comment.getPost().getId());
+        contentVersions.boardChanged(currentUserId);
+        boardEventBus.publishAfterCommit(BoardEvent.commentDeleted(comment.getPost().getId(), commentId));
     }
 }
@@ -0,0 +1,235 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.CommentFeedEvent;
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventSubscriber;
+import com.example.server.board.exception.CommentFeedUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글별 실시간 댓글 피드 (SSE) 브로커
+ * 구독자마다 크기가 정해진 버퍼를 두고, 보낼 이벤트가 있을 때만 dispatcher 스레드가 버퍼를 비우면서 전송함
+ * 대기 중인 구독자는 스레드를 점유하지 않으며(서블릿 비동기 요청), 버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊음
+ * 이벤트는 구독자 수와 무관하게 한 번만 직렬화함
+ */
+@Slf4j
+@Component
+public class CommentFeedBroker implements BoardEventSubscriber {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    @Autowired
+    public CommentFeedBroker(ObjectMapper objectMapper,
+                             @Value("${board.comment-feed.dispatcher-threads:4}") int dispatcherThreads,
+                             @Value("${board.comment-feed.buffer-size:32}") int bufferSize,
+                             @Value("${board.comment-feed.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${board.comment-feed.max-subscribers:10000}") int maxSubscribers) {
+        // 전송 작업을 넘긴 스레드의 trace 정보(로그의 traceId 등)를 dispatcher 스레드로 전달
+        this(ContextExecutorService.wrap(Executors.newFixedThreadPool(dispatcherThreads, new CustomizableThreadFactory("comment-feed-")),
+                        ContextSnapshotFactory.builder().build()),
+                objectMapper, bufferSize, timeoutMillis, maxSubscribers);
+    }
+
+    CommentFeedBroker(ExecutorService dispatcher, ObjectMapper objectMapper, int bufferSize, long timeoutMillis, int maxSubscribers) {
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * 게시글의 댓글 피드 구독 (게시글 존재 여부는 호출하는 쪽에서 확인)
+     * @param postId 게시글 ID
+     * @return 연결이 끝날 때까지 이벤트를 보내는 SseEmitter
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CommentFeedUnavailableException("실시간 댓글 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        // remove()가 빈 Set을 지우는 것과 같은 compute 안에서 추가해야, 지워지는 중인 Set에 추가되어 이벤트를 못 받는 일이 없음
+        subscribers.compute(postId, (id, postSubscribers) -> {
+            Set<Subscriber> current = postSubscribers != null ? postSubscribers : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(e -> subscriber.closed());
+
+        // 연결 직후 응답 헤더가 바로 전달되도록 첫 이벤트 전송
+        subscriber.offer(SseEmitter.event().name("connected").data(postId).build());
+        return emitter;
+    }
+
+    /**
+     * 커밋된 댓글 변경 이벤트를 구독자에게 전송 (롤백된 변경은 이벤트 버스로 들어오지 않음)
+     */
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            switch (event.getType()) {
+                case COMMENT_CREATED -> publish(CommentFeedEvent.created(event.getPostId(), event.getComment()));
+                case COMMENT_UPDATED -> publish(CommentFeedEvent.updated(event.getPostId(), event.getComment()));
+                case COMMENT_DELETED -> publish(CommentFeedEvent.deleted(event.getPostId(), event.getCommentId()));
+                default -> {
+                }
+            }
+        }
+    }
+
+    public void publish(CommentFeedEvent event) {
+        Set<Subscriber> postSubscribers = subscribers.get(event.getPostId());
+        if (postSubscribers == null || postSubscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> data;
+        try {
+            data = SseEmitter.event()
+                    .id(Long.toString(eventSequence.incrementAndGet()))
+                    .name(event.getType())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("댓글 피드 이벤트 직렬화 실패: postId={}", event.getPostId(), e);
+            return;
+        }
+        for (Subscriber subscriber : postSubscribers) {
+            subscriber.offer(data);
+        }
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송, 끊긴 연결도 여기서 정리됨
+    @Scheduled(fixedDelayString = "${board.comment-feed.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(postSubscribers -> postSubscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    public int getSubscriberCount(Long postId) {
+        Set<Subscriber> postSubscribers = subscribers.get(postId);
+        return postSubscribers != null ? postSubscribers.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(postSubscribers -> postSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.postId, (id, postSubscribers) -> {
+            postSubscribers.remove(subscriber);
+            return postSubscribers.isEmpty() ? null : postSubscribers;
+        });
+    }
+
+    private class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        // 서블릿 컨테이너가 연결을 끝낸 경우 (이미 끝난 emitter는 다시 complete 하지 않음)
+        void closed() {
+            completed.set(true);
+            remove(this);
+        }
+
+        // 이벤트 버스/스케줄러 스레드에서 호출되므로 emitter는 건드리지 않음
+        // (send와 complete는 같은 모니터를 쓰므로, 읽지 않는 클라이언트에게 send 중인 emitter를 complete 하면 호출한 스레드도 멈춤)
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            if (removed.get()) {
+                return;
+            }
+            if (!buffer.offer(data)) {
+                // 버퍼가 가득 찰 만큼 못 따라오는 구독자는 끊음 (클라이언트는 재연결 후 댓글을 다시 조회)
+                // 연결 종료는 dispatcher의 drain에서 처리
+                log.debug("느린 댓글 피드 구독자 연결 종료: postId={}", postId);
+                remove(this);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        // 한 구독자에 대해서는 항상 한 스레드만 전송하므로 이벤트 순서가 유지됨
+        // 제거된 구독자의 연결 종료(complete)도 여기서만 하므로 send와 겹치지 않음
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> data;
+                while (!removed.get() && (data = buffer.poll()) != null) {
+                    emitter.send(data);
+                }
+                if (removed.get() && completed.compareAndSet(false, true)) {
+                    buffer.clear();
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter (연결 정리는 서블릿 컨테이너가 처리)
+                completed.set(true);
+                remove(this);
+            } finally {
+                draining.set(false);
+                // drain이 끝나는 사이에 제거됐거나 새 이벤트가 들어왔으면 다시 예약
+                if (removed.get() ? !completed.get() : !buffer.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+    }
+}
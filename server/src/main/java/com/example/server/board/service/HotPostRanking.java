@@ -0,0 +1,225 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.PostListResponse;
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventSubscriber;
+import com.example.server.board.repository.PostRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 인기 게시글 랭킹 (조회/댓글 기반, 시간 감쇠)
+ * 점수 = sum(가중치 * 2^((이벤트 시각 - now) / 반감기))
+ * 모든 점수에 같은 비율로 감쇠가 적용되므로 기준 시각(서버 시작)부터 커지는 지수로 저장하면 순서를 다시 계산할 필요가 없음
+ * 지수가 커져도 넘치지 않도록 log 값으로 저장하고, 이벤트마다 skip list에서 한 항목만 O(log n)으로 갱신함
+ */
+@Slf4j
+@Component
+public class HotPostRanking implements BoardEventSubscriber {
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double COMMENT_WEIGHT = 5;
+    private static final int SEED_SIZE = 500;
+    // 삭제 이벤트보다 늦게 끝난 조회 요청이 게시글을 다시 넣지 않도록 삭제된 ID를 기억하는 시간
+    private static final long DELETED_RETENTION_MILLIS = 600_000;
+
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final long startedAtMillis;
+    // log 점수 1 증가에 해당하는 시간 (반감기 / ln2)
+    private final double decayMillis;
+    private final int maxEntries;
+    private final double minLogScore;
+
+    private final Map<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final NavigableSet<Ranked> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Ranked::getLogScore).thenComparingLong(Ranked::getPostId));
+    // 삭제된 게시글 ID -> 삭제 이벤트를 받은 시각
+    private final Map<Long, Long> deletedAt = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HotPostRanking(PostRepository postRepository,
+                          @Value("${board.hot.half-life-minutes:360}") long halfLifeMinutes,
+                          @Value("${board.hot.max-entries:10000}") int maxEntries) {
+        this(postRepository, Clock.systemUTC(), halfLifeMinutes, maxEntries);
+    }
+
+    HotPostRanking(PostRepository postRepository, Clock clock, long halfLifeMinutes, int maxEntries) {
+        this.postRepository = postRepository;
+        this.clock = clock;
+        this.startedAtMillis = clock.millis();
+        this.decayMillis = halfLifeMinutes * 60_000 / Math.log(2);
+        this.maxEntries = maxEntries;
+        // 현재 기준으로 조회 0.1회 미만의 점수만 남은 게시글은 정리 대상
+        this.minLogScore = Math.log(0.1);
+    }
+
+    // 재시작 직후 랭킹이 비어있지 않도록 최근 게시글의 누적 조회수/댓글 수를 작성 시각 기준으로 넣어둠 (시작 워밍업보다 먼저 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void seed() {
+        for (PostListResponse post : postRepository.findLatestPostSummaries(Limit.of(SEED_SIZE))) {
+            addAccumulated(post.getId(), post.getViewCount(), post.getCommentCount(), post.getCreatedAt());
+        }
+        log.info("인기 게시글 랭킹 초기화: {}건", logScores.size());
+    }
+
+    public void recordView(Long postId) {
+        add(postId, VIEW_WEIGHT, clock.millis());
+    }
+
+    public void recordComment(Long postId) {
+        add(postId, COMMENT_WEIGHT, clock.millis());
+    }
+
+    /**
+     * 삭제된 게시글을 랭킹에서 제거
+     * 존재 확인 후 조회수를 올리는 요청이 삭제 이벤트보다 늦게 도착할 수 있으므로 한동안 다시 추가하지 않음
+     */
+    public void remove(Long postId) {
+        deletedAt.put(postId, clock.millis());
+        removeEntry(postId);
+    }
+
+    /**
+     * 버려진 이벤트(삭제, 가져오기, 댓글)가 있으면 시작할 때처럼 DB의 누적 조회수/댓글 수로 랭킹을 다시 채움
+     */
+    @Override
+    public void resync() {
+        logScores.keySet().forEach(this::removeEntry);
+        seed();
+    }
+
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            switch (event.getType()) {
+                // 가져온 게시글은 누적 조회수/댓글 수를 원래 작성 시각 기준으로 넣음 (새 게시글은 0이라 건너뜀)
+                case POST_CREATED -> {
+                    if (event.getCreatedAt() != null) {
+                        addAccumulated(event.getPostId(), event.getViewCount(), event.getCommentCount(), event.getCreatedAt());
+                    }
+                }
+                case COMMENT_CREATED -> recordComment(event.getPostId());
+                case POST_DELETED -> remove(event.getPostId());
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * 점수가 높은 순서로 게시글 ID 조회
+     * @param size 최대 개수
+     */
+    public List<Long> getTopPostIds(int size) {
+        List<Long> postIds = new ArrayList<>(size);
+        Iterator<Ranked> iterator = ranking.descendingIterator();
+        while (postIds.size() < size && iterator.hasNext()) {
+            postIds.add(iterator.next().getPostId());
+        }
+        return postIds;
+    }
+
+    /**
+     * 현재 시각 기준 감쇠된 점수 (조회 1회 = 1)
+     */
+    public double getScore(Long postId) {
+        Double logScore = logScores.get(postId);
+        return logScore != null ? Math.exp(logScore - elapsed(clock.millis())) : 0;
+    }
+
+    public int size() {
+        return logScores.size();
+    }
+
+    // 점수가 거의 0이 된 게시글과 최대 개수를 넘는 하위 게시글을 정리 (낮은 점수부터 꺼내므로 정리한 개수만큼만 탐색)
+    @Scheduled(fixedDelayString = "${board.hot.prune-interval-ms:60000}")
+    public void prune() {
+        long deletedBefore = clock.millis() - DELETED_RETENTION_MILLIS;
+        deletedAt.values().removeIf(millis -> millis < deletedBefore);
+
+        double threshold = minLogScore + elapsed(clock.millis());
+        Ranked lowest;
+        while ((lowest = ranking.pollFirst()) != null) {
+            if (lowest.getLogScore() >= threshold && logScores.size() <= maxEntries) {
+                // 꺼낸 사이에 점수가 갱신되지 않았을 때만 되돌려 놓음
+                Ranked kept = lowest;
+                logScores.computeIfPresent(kept.getPostId(), (id, logScore) -> {
+                    if (logScore == kept.getLogScore()) {
+                        ranking.add(kept);
+                    }
+                    return logScore;
+                });
+                break;
+            }
+            // 꺼낸 사이에 점수가 갱신됐으면 새 항목이 들어가 있으므로 맵은 그대로 둠
+            logScores.remove(lowest.getPostId(), lowest.getLogScore());
+        }
+    }
+
+    private void removeEntry(Long postId) {
+        logScores.computeIfPresent(postId, (id, logScore) -> {
+            ranking.remove(new Ranked(logScore, id));
+            return null;
+        });
+    }
+
+    private void addAccumulated(Long postId, int viewCount, int commentCount, OffsetDateTime createdAt) {
+        double weight = viewCount * VIEW_WEIGHT + commentCount * COMMENT_WEIGHT;
+        if (weight > 0) {
+            add(postId, weight, createdAt.toInstant().toEpochMilli());
+        }
+    }
+
+    // log(기존 점수 + 가중치 * e^(경과)) 를 넘치지 않게 계산해서 같은 게시글 항목만 교체
+    private void add(Long postId, double weight, long eventMillis) {
+        double eventLogScore = Math.log(weight) + elapsed(eventMillis);
+        logScores.compute(postId, (id, previous) -> {
+            // remove()는 deletedAt을 먼저 기록한 뒤 같은 키로 compute 하므로, 여기서 확인하면 삭제 후 다시 들어가지 않음
+            if (deletedAt.containsKey(id)) {
+                return previous;
+            }
+            double next = eventLogScore;
+            if (previous != null) {
+                ranking.remove(new Ranked(previous, id));
+                double max = Math.max(previous, eventLogScore);
+                next = max + Math.log(Math.exp(previous - max) + Math.exp(eventLogScore - max));
+            }
+            ranking.add(new Ranked(next, id));
+            return next;
+        });
+    }
+
+    private double elapsed(long millis) {
+        return (millis - startedAtMillis) / decayMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Ranked {
+        private final double logScore;
+        private final long postId;
+    }
+}
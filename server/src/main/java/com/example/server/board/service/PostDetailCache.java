@@ -0,0 +1,247 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.PostResponse;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시글 상세 응답 JSON 캐시
+ * 직렬화된 JSON을 조회수 앞/뒤 두 조각의 바이트로 저장해두고, 캐시 히트 시 조회수 숫자만 끼워서 바로 응답함
+ * (Hibernate 조회, DTO 변환, Jackson 직렬화를 모두 건너뜀)
+ * 전체 바이트 수 기준 LRU로 크기를 제한함
+ */
+@Component
+public class PostDetailCache {
+
+    // 조회수 자리를 찾기 위한 임시 값 (실제 조회수로는 나올 수 없는 값)
+    private static final int VIEW_COUNT_PLACEHOLDER = Integer.MIN_VALUE;
+    private static final byte[] VIEW_COUNT_MARKER =
+            ("\"viewCount\":" + VIEW_COUNT_PLACEHOLDER).getBytes(StandardCharsets.UTF_8);
+    private static final int VIEW_COUNT_VALUE_OFFSET = "\"viewCount\":".length();
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ReplicaConsistency replicaConsistency;
+    private final long maxBytes;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 게시글별 버전 (ID 해시로 나눈 stripe 단위), 무효화될 때마다 증가
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private long totalBytes;
+
+    public PostDetailCache(@Value("${board.post-detail-cache.max-bytes:16777216}") long maxBytes,
+                           ReplicaConsistency replicaConsistency,
+                           ObjectMapper objectMapper) {
+        // HTTP 응답 converter와 같은 공유 ObjectMapper로 직렬화 (날짜 형식 등 동일하게 유지)
+        this.objectMapper = objectMapper;
+        this.replicaConsistency = replicaConsistency;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 캐시된 상세 JSON에 조회수를 합쳐서 반환
+     * 다른 서버에서 일어난 변경은 이 캐시에서 제거되지 않으므로, 저장할 때의 ETag가 현재 ETag와 다르면 미스로 처리함
+     * @param postId 게시글 ID
+     * @param etag 현재 상세 ETag
+     * @param pendingViewCount 아직 DB에 반영되지 않은 조회수 증가분
+     * @return 응답 JSON 바이트 (캐시에 없거나 ETag가 다르면 null)
+     */
+    public byte[] get(Long postId, String etag, long pendingViewCount) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(postId);
+        }
+        return entry != null && entry.etag.equals(etag) ? entry.render(entry.baseViewCount.get() + pendingViewCount) : null;
+    }
+
+    /**
+     * 캐시에 있는 게시글인지 확인 (삭제되면 evict로 제거되므로 존재 확인 대신 사용)
+     */
+    public boolean contains(Long postId) {
+        synchronized (entries) {
+            return entries.containsKey(postId);
+        }
+    }
+
+    /**
+     * DB 조회 전에 읽어두는 버전
+     * 조회 도중 무효화가 일어나면 put 시점에 버전이 달라져서 오래된 내용이 캐시되지 않음
+     */
+    public long getVersion(Long postId) {
+        return versions.get(stripe(postId));
+    }
+
+    /**
+     * 조회한 상세 응답을 직렬화해서 캐시에 저장
+     * @param version 조회 전에 읽은 버전 (getVersion)
+     * @param etag 조회 전에 읽은 상세 ETag
+     * @param response DB에 반영된 조회수가 담긴 상세 응답
+     * @param pendingViewCount 아직 DB에 반영되지 않은 조회수 증가분
+     * @return 조회수를 합친 응답 JSON 바이트
+     */
+    public byte[] put(Long postId, long version, String etag, PostResponse response, long pendingViewCount) {
+        long baseViewCount = response.getViewCount();
+        Entry entry = serialize(response, etag);
+        entry.baseViewCount.set(baseViewCount);
+
+        synchronized (entries) {
+            if (versions.get(stripe(postId)) == version && entry.size() <= maxBytes) {
+                Entry previous = entries.put(postId, entry);
+                if (previous != null) {
+                    totalBytes -= previous.size();
+                }
+                totalBytes += entry.size();
+                evictOverflow();
+            }
+        }
+        return entry.render(baseViewCount + pendingViewCount);
+    }
+
+    /**
+     * 게시글/댓글 변경 시 캐시에서 제거
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거해서, 커밋 전 내용이 다시 캐싱되는 것을 막음
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        replicaConsistency.runAfterCommit(() -> evictNow(postId));
+        evictNow(postId);
+    }
+
+    /**
+     * 전체 무효화 (닉네임 변경처럼 여러 게시글에 걸친 변경 시)
+     * evict와 같이 커밋 이후에 한 번 더 무효화함
+     */
+    public void evictAll() {
+        replicaConsistency.runAfterCommit(this::evictAllNow);
+        evictAllNow();
+    }
+
+    /**
+     * 조회수 flush 후 DB에 반영된 만큼 캐시의 기준 조회수를 올림
+     * flush 도중 DB를 읽고 있던 조회는 버전을 올려서 캐시되지 않도록 함
+     * @param deltas 게시글 ID -> DB에 반영된 증가분
+     */
+    public void applyFlushedViewCounts(Map<Long, Long> deltas) {
+        synchronized (entries) {
+            deltas.forEach((postId, delta) -> {
+                versions.incrementAndGet(stripe(postId));
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    entry.baseViewCount.addAndGet(delta);
+                }
+            });
+        }
+        // 복제본에서 flush 이전 조회수를 읽어 캐시한 항목은 복제본이 따라잡은 뒤 다시 만들도록 제거
+        replicaConsistency.runAfterCatchUp(() -> deltas.keySet().forEach(this::evictNow));
+    }
+
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private void evictNow(Long postId) {
+        synchronized (entries) {
+            versions.incrementAndGet(stripe(postId));
+            Entry removed = entries.remove(postId);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+    }
+
+    // 최대 크기를 넘으면 가장 오래 안 쓰인 항목부터 제거 (entries 락 보유 상태에서 호출)
+    private void evictAllNow() {
+        synchronized (entries) {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            entries.clear();
+            totalBytes = 0;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    private Entry serialize(PostResponse response, String etag) {
+        Integer viewCount = response.getViewCount();
+        byte[] json;
+        try {
+            response.setViewCount(VIEW_COUNT_PLACEHOLDER);
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 상세 응답 직렬화 실패: " + response.getId(), e);
+        } finally {
+            response.setViewCount(viewCount);
+        }
+
+        // 본문 안의 따옴표는 이스케이프되므로 마커는 실제 viewCount 필드에서만 나옴
+        int markerAt = indexOf(json, VIEW_COUNT_MARKER);
+        if (markerAt < 0) {
+            throw new IllegalStateException("게시글 상세 응답에서 viewCount 필드를 찾을 수 없습니다: " + response.getId());
+        }
+        int valueAt = markerAt + VIEW_COUNT_VALUE_OFFSET;
+        return new Entry(etag, Arrays.copyOfRange(json, 0, valueAt),
+                Arrays.copyOfRange(json, markerAt + VIEW_COUNT_MARKER.length, json.length));
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int stripe(Long postId) {
+        return (int) Math.floorMod(postId, (long) VERSION_STRIPES);
+    }
+
+    private static class Entry {
+        private final String etag;
+        private final byte[] prefix;
+        private final byte[] suffix;
+        private final AtomicLong baseViewCount = new AtomicLong();
+
+        Entry(String etag, byte[] prefix, byte[] suffix) {
+            this.etag = etag;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        int size() {
+            return prefix.length + suffix.length;
+        }
+
+        byte[] render(long viewCount) {
+            byte[] digits = Long.toString(viewCount).getBytes(StandardCharsets.US_ASCII);
+            byte[] json = new byte[prefix.length + digits.length + suffix.length];
+            System.arraycopy(prefix, 0, json, 0, prefix.length);
+            System.arraycopy(digits, 0, json, prefix.length, digits.length);
+            System.arraycopy(suffix, 0, json, prefix.length + digits.length, suffix.length);
+            return json;
+        }
+    }
+}
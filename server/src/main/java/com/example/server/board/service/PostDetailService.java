@@ -0,0 +1,54 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.PostResponse;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 상세 조회 (직렬화 캐시 적용)
+ * ETag 조회 뒤에 호출되며, 캐시 히트 시 본문 조회/직렬화 없이 응답하고 미스일 때만 BoardService로 조회함
+ */
+@Service
+@RequiredArgsConstructor
+@Observed
+public class PostDetailService {
+
+    private final BoardService boardService;
+    private final ViewCountService viewCountService;
+    private final PostDetailCache postDetailCache;
+
+    /**
+     * 게시글 상세 JSON 조회 (조회수 1 증가)
+     * 없는 ID로 조회수/인기 랭킹 항목이 쌓이지 않도록 캐시 히트 또는 DB 조회가 성공한 뒤에 조회수를 올림
+     * @param postId 게시글 ID
+     * @param etag 현재 상세 ETag (BoardService.getPostETag, 같은 트랜잭션에서 먼저 읽은 값)
+     * @return 응답 JSON 바이트
+     */
+    public byte[] getPostDetailJson(Long postId, String etag) {
+        // 이번 조회분(+1)을 포함한 조회수로 응답
+        byte[] cached = postDetailCache.get(postId, etag, viewCountService.getPendingCount(postId) + 1);
+        if (cached != null) {
+            viewCountService.increase(postId);
+            return cached;
+        }
+
+        long version = postDetailCache.getVersion(postId);
+        PostResponse response = boardService.findPostDetail(postId);
+        viewCountService.increase(postId);
+        return postDetailCache.put(postId, version, etag, response, viewCountService.getPendingCount(postId));
+    }
+
+    /**
+     * 조회수 1 증가 (304 응답처럼 본문을 만들지 않는 조회에 사용)
+     * 캐시에 없으면 게시글 존재 여부를 확인한 뒤에 올림
+     * @param postId 게시글 ID
+     * @throws com.example.server.board.exception.PostNotFoundException 게시글이 없을 때
+     */
+    public void recordView(Long postId) {
+        if (!postDetailCache.contains(postId)) {
+            boardService.checkPostExists(postId);
+        }
+        viewCountService.increase(postId);
+    }
+}
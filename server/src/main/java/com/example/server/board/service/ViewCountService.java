@@ -0,0 +1,149 @@
+package com.example.server.board.service;
+
+import com.example.server.board.event.BoardEvent;
+import com.example.server.board.event.BoardEventSubscriber;
+import com.example.server.board.repository.PostViewCountRepository;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.user.service.UserStatsService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * 조회 시에는 메모리의 게시글별 증가분만 올리고,
+ * 주기적으로 누적된 증가분을 view_count = view_count + ? 배치 UPDATE로 DB에 반영함
+ * 게시글별 LongAdder에 나눠서 올리므로 인기 게시글에 조회가 몰려도 같은 항목에서 기다리지 않고,
+ * flush는 카운터를 맵에 둔 채 sumThenReset()으로 증가분만 가져감
+ * 직전 flush 이후 조회가 없던 카운터만 맵에서 정리하고, 정리된 카운터에 늦게 들어온 증가분은 새 카운터로 옮김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService implements BoardEventSubscriber {
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final PostDetailCache postDetailCache;
+    private final ContentVersions contentVersions;
+    private final HotPostRanking hotPostRanking;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 조회 1회 기록
+     * @param postId 게시글 ID
+     */
+    public void increase(Long postId) {
+        add(postId, 1);
+        hotPostRanking.recordView(postId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     * @param postId 게시글 ID
+     * @return 대기 중인 증가분
+     */
+    public long getPendingCount(Long postId) {
+        PendingCount pending = pendingCounts.get(postId);
+        return pending != null ? pending.count.sum() : 0;
+    }
+
+    // 카운터가 남아 있는 게시글 수
+    int size() {
+        return pendingCounts.size();
+    }
+
+    // 삭제된 게시글의 미반영 증가분은 UPDATE할 대상이 없으므로 버림
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            if (event.getType() == BoardEvent.Type.POST_DELETED) {
+                PendingCount removed = pendingCounts.remove(event.getPostId());
+                if (removed != null) {
+                    removed.retired = true;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        // 카운터는 그대로 두고 증가분만 가져감 (가져간 뒤 들어온 조회는 같은 카운터에 쌓임)
+        for (Map.Entry<Long, PendingCount> entry : pendingCounts.entrySet()) {
+            long delta = entry.getValue().count.sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                // 직전 flush 이후 조회가 없던 카운터는 정리
+                retire(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 작성자 통계의 조회수 합계도 같은 트랜잭션에서 올려서, 재시도 시 한쪽만 두 번 반영되지 않도록 함 (목록 ETag 버전은 커밋 후)
+            transactionTemplate.executeWithoutResult(status -> {
+                postViewCountRepository.increaseViewCounts(deltas);
+                userStatsService.viewsFlushed(deltas);
+                contentVersions.viewCountsFlushed();
+            });
+            // 상세 캐시의 기준 조회수도 DB에 반영된 만큼 올림
+            postDetailCache.applyFlushedViewCounts(deltas);
+        } catch (Exception e) {
+            // 반영에 실패한 증가분은 다음 flush 때 다시 시도
+            log.error("조회수 반영 실패, 다음 주기에 재시도함: {}", e.getMessage());
+            deltas.forEach(this::add);
+        }
+    }
+
+    // 증가분을 게시글 카운터에 더하고, 그 사이에 정리된 카운터였으면 더한 만큼을 새 카운터로 옮김
+    private void add(Long postId, long delta) {
+        while (delta != 0) {
+            PendingCount pending = pendingCounts.get(postId);
+            if (pending == null) {
+                pending = pendingCounts.computeIfAbsent(postId, id -> new PendingCount());
+            }
+            pending.count.add(delta);
+            if (!pending.retired) {
+                return;
+            }
+            delta = pending.count.sumThenReset();
+        }
+    }
+
+    /**
+     * 카운터를 맵에서 빼고, 빼기 직전에 카운터를 가져간 조회가 남긴 증가분은 다시 더함
+     * 조회 쪽은 더한 뒤 retired를, 여기서는 retired를 쓴 뒤 카운터를 확인하므로 적어도 한쪽은 증가분을 옮김
+     */
+    private void retire(Long postId, PendingCount pending) {
+        pending.retired = true;
+        pendingCounts.remove(postId, pending);
+        add(postId, pending.count.sumThenReset());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static class PendingCount {
+        private final LongAdder count = new LongAdder();
+        // 맵에서 빠진 카운터 (이후 증가분은 새 카운터로 옮겨야 함)
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.server.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * 공유 ObjectMapper 설정
+ * ObjectMapper는 Spring Boot(JacksonAutoConfiguration)가 하나만 만들고, HTTP 응답 converter, WebClient,
+ * 상세 캐시, SSE 피드가 모두 같은 인스턴스를 사용함 (직렬화 설정/캐시된 serializer를 공유)
+ * 여기서는 serializer 최적화 모듈과 출력 버퍼 풀만 추가
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * getter/setter 리플렉션 호출을 LambdaMetafactory로 만든 호출로 바꾸는 모듈
+     * Module 타입 bean은 Spring Boot가 공유 ObjectMapper에 자동으로 등록함
+     * native image는 실행 중에 클래스를 만들 수 없으므로 빈 모듈로 대신함 (bean 구성은 AOT 빌드 시점에 고정되므로 실행 시점에 판단)
+     */
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonFactoryCustomizer(@Value("${json.buffer-pool.size:256}") int bufferPoolSize) {
+        return builder -> builder.factory(jsonFactory(bufferPoolSize));
+    }
+
+    /**
+     * 직렬화 버퍼를 스레드와 무관하게 재사용하는 JsonFactory
+     * 기본값(ThreadLocal 풀)은 요청 스레드, SSE dispatcher, 이벤트 버스 스레드마다 버퍼를 따로 잡으므로
+     * 최대 bufferPoolSize개까지만 보관하는 공유 풀을 사용
+     */
+    public static JsonFactory jsonFactory(int bufferPoolSize) {
+        return JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newBoundedPool(bufferPoolSize))
+                .build();
+    }
+}
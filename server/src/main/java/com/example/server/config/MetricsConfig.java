@@ -0,0 +1,51 @@
+package com.example.server.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 메트릭 설정 (Prometheus 형식, /actuator/prometheus)
+ * API 응답 시간(http.server.requests), 외부 API 호출(http.client.requests), JWT 검증, 게시판 타이머에
+ * SLO 기준 histogram bucket과 percentile을 함께 내보냄
+ */
+@Configuration
+public class MetricsConfig {
+
+    // histogram을 켜는 타이머 이름 prefix (그 외 JVM/Hikari 등은 기본 설정 유지)
+    private static final List<String> SLO_TIMER_PREFIXES = List.of("http.server.requests", "http.client.requests", "jwt.", "board.");
+
+    @Bean
+    public MeterFilter sloDistributionFilter(@Value("${metrics.slo-ms:50,100,250,500,1000,2500}") List<Long> sloMillis,
+                                             @Value("${metrics.percentiles:0.5,0.95,0.99}") double[] percentiles) {
+        return sloDistributionFilter(sloMillis, percentiles, SLO_TIMER_PREFIXES);
+    }
+
+    static MeterFilter sloDistributionFilter(List<Long> sloMillis, double[] percentiles, List<String> prefixes) {
+        // 타이머의 SLO 값은 nanosecond 단위
+        double[] slos = sloMillis.stream()
+                .mapToDouble(millis -> Duration.ofMillis(millis).toNanos())
+                .toArray();
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || prefixes.stream().noneMatch(id.getName()::startsWith)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(percentiles)
+                        .serviceLevelObjectives(slos)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
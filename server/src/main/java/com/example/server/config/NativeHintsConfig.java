@@ -0,0 +1,103 @@
+package com.example.server.config;
+
+import com.example.server.admin.dto.CacheRegionStatsResponse;
+import com.example.server.auth.dto.AuthResponse;
+import com.example.server.auth.dto.LoginRequest;
+import com.example.server.auth.dto.LoginResponse;
+import com.example.server.auth.dto.SignUpRequest;
+import com.example.server.auth.dto.SupabaseUser;
+import com.example.server.board.dto.CommentCreateRequest;
+import com.example.server.board.dto.CommentFeedEvent;
+import com.example.server.board.dto.CommentResponse;
+import com.example.server.board.dto.CommentUpdateRequest;
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.dto.EventBusStatsResponse;
+import com.example.server.board.dto.ImportResultResponse;
+import com.example.server.board.dto.PostCreateRequest;
+import com.example.server.board.dto.PostImportRequest;
+import com.example.server.board.dto.PostListResponse;
+import com.example.server.board.dto.PostResponse;
+import com.example.server.board.dto.PostUpdateRequest;
+import com.example.server.board.search.SearchDocument;
+import com.example.server.global.common.ErrorResponse;
+import com.example.server.image.dto.AnalysisResultDto;
+import com.example.server.image.dto.gemini.ContentPart;
+import com.example.server.image.dto.gemini.GeminiGenerationConfig;
+import com.example.server.image.dto.gemini.GeminiRequest;
+import com.example.server.image.dto.gemini.GeminiResponse;
+import com.example.server.image.dto.gemini.InlineData;
+import com.example.server.image.dto.gemini.Part;
+import com.example.server.user.dto.CommentSummary;
+import com.example.server.user.dto.PostSummary;
+import com.example.server.user.dto.ProfileResponse;
+import com.example.server.user.dto.ProfileUpdateRequest;
+import com.example.server.user.dto.UserStatsResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * GraalVM native image용 reflection/serialization hint (./gradlew nativeCompile -Pnative)
+ * 컨트롤러의 요청/응답 타입은 Spring AOT가 자동으로 등록하지만, 아래 경우는 빌드 시점에 알 수 없어서 직접 등록함
+ * - WebClient로 주고받는 Supabase/Gemini DTO, ObjectMapper로 직접 변환하는 DTO (상세 캐시, SSE 피드, 가져오기)
+ * - JPQL 생성자 표현식(select new ...)으로 Hibernate가 생성하는 DTO
+ * - 2차 캐시(store-by-value)가 Java 직렬화로 복사하는 캐시 항목과 JSON 컬럼(JsonNode) 값
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ServerRuntimeHints.class)
+@RegisterReflectionForBinding({
+        // image
+        GeminiRequest.class, GeminiResponse.class, GeminiResponse.Candidate.class, GeminiGenerationConfig.class,
+        ContentPart.class, Part.class, InlineData.class, AnalysisResultDto.class,
+        // auth
+        AuthResponse.class, SupabaseUser.class, LoginRequest.class, LoginResponse.class, SignUpRequest.class,
+        // board
+        PostResponse.class, PostListResponse.class, CommentResponse.class, CursorPageResponse.class,
+        PostCreateRequest.class, PostUpdateRequest.class, CommentCreateRequest.class, CommentUpdateRequest.class,
+        PostImportRequest.class, PostImportRequest.CommentImportRequest.class, ImportResultResponse.class,
+        CommentFeedEvent.class, EventBusStatsResponse.class, SearchDocument.class,
+        // user
+        ProfileResponse.class, ProfileUpdateRequest.class, PostSummary.class, CommentSummary.class, UserStatsResponse.class,
+        // admin, 공통
+        CacheRegionStatsResponse.class, ErrorResponse.class
+})
+public class NativeHintsConfig {
+
+    static class ServerRuntimeHints implements RuntimeHintsRegistrar {
+
+        // 2차 캐시 항목 (키, 엔티티 상태, READ_WRITE lock 항목)과 엔티티 필드 값 타입
+        private static final List<String> SERIALIZED_TYPES = List.of(
+                "org.hibernate.cache.internal.BasicCacheKeyImplementation",
+                "org.hibernate.cache.internal.CacheKeyImplementation",
+                "org.hibernate.cache.spi.entry.StandardCacheEntryImpl",
+                "org.hibernate.cache.spi.support.AbstractReadWriteAccess$Item",
+                "org.hibernate.cache.spi.support.AbstractReadWriteAccess$SoftLockImpl",
+                "java.io.Serializable[]",
+                "java.lang.Object[]",
+                "java.lang.String",
+                "java.lang.Integer",
+                "java.lang.Long",
+                "java.lang.Number",
+                "java.util.UUID",
+                // @JdbcTypeCode(SqlTypes.JSON) JsonNode 필드
+                "com.fasterxml.jackson.databind.node.NodeSerialization");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : SERIALIZED_TYPES) {
+                hints.serialization().registerType(TypeReference.of(type));
+            }
+            // hibernate.cache.region.factory_class=jcache 이름으로 찾아서 리플렉션으로 생성
+            hints.reflection().registerType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // Caffeine JCache provider의 기본 설정 파일
+            hints.resources().registerPattern("reference.conf");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.server.config;
+
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (datasource.replica.urls 가 있을 때만 사용)
+ * primary는 spring.datasource.*, 복제본은 같은 계정/풀 설정에 URL만 바꿔서 만듦
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            ReplicaConsistency replicaConsistency,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${datasource.replica.username:}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMillis,
+            @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${datasource.replica.lag-query:}") String lagQuery) {
+        HikariDataSource primary = createPool(properties, environment);
+        primary.setPoolName("primary");
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(primary);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = createPool(properties, environment);
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i));
+            // 복제본 계정을 따로 지정하지 않으면 primary 계정 사용
+            if (!username.isBlank()) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+            replica.setReadOnly(true);
+            // 장애난 복제본에서 오래 기다리지 않고 바로 다른 복제본이나 primary로 넘어가도록 짧게 설정
+            replica.setConnectionTimeout(connectionTimeoutMillis);
+            replicas.add(replica);
+            pools.add(replica);
+        }
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primary, replicas, replicaConsistency, lagQuery, maxLagMillis);
+
+        // 풀이 Bean이 아니라서 Hikari 메트릭이 자동으로 등록되지 않으므로 직접 연결 (hikaricp.connections.*, pool 태그로 구분)
+        meterRegistry.ifAvailable(registry -> {
+            pools.forEach(pool -> pool.setMetricRegistry(registry));
+            Gauge.builder("datasource.replica.healthy", routingDataSource, ReplicaRoutingDataSource::getHealthyReplicaCount)
+                    .register(registry);
+        });
+        return routingDataSource;
+    }
+
+    // 트랜잭션이 시작된 뒤 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // 요청 하나에서 여러 트랜잭션이 실행될 때(open-in-view) 이전 트랜잭션의 커넥션을 이어 쓰지 않고 트랜잭션마다 다시 라우팅
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // 기본 DataSource 자동 설정과 같이 spring.datasource.hikari.* 적용
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.server.config;
+
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.user.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache, 로컬 Caffeine provider)
+ * 거의 바뀌지 않는 사용자 엔티티만 캐싱하고, region마다 최대 개수와 TTL을 둠
+ * auth.users는 Supabase에서도 수정되므로 TTL이 외부 변경이 반영되기까지의 최대 지연이 됨
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jpa.cache.auth-user.max-entries:10000}") long authUserMaxEntries,
+            @Value("${jpa.cache.auth-user.ttl-seconds:600}") long authUserTtlSeconds,
+            @Value("${jpa.cache.user.max-entries:1000}") long userMaxEntries,
+            @Value("${jpa.cache.user.ttl-seconds:600}") long userTtlSeconds) {
+        // 기본 URI의 CacheManager는 JVM 안에서 공유되므로 컨텍스트마다 따로 만듦 (테스트 컨텍스트 여러 개, devtools 재시작)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2c-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, AuthUser.CACHE_REGION, authUserMaxEntries, authUserTtlSeconds);
+        createRegion(cacheManager, User.CACHE_REGION, userMaxEntries, userTtlSeconds);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만든 region만 사용 (설정 없이 무제한 캐시가 생기지 않도록)
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // region별 hit/miss 통계 (/api/admin/cache), 세션마다 남는 통계 로그는 끔
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
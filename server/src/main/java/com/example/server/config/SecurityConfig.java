@@ -36,6 +36,9 @@ public class SecurityConfig {
                 // swagger 추가
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/api/images/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
+                        // 헬스 체크와 Prometheus 수집 (관리 포트는 외부에 공개하지 않음, management.server.port)
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 그 외 나머지 모든 요청은 인증 필요
                 )
 
@@ -0,0 +1,63 @@
+package com.example.server.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 기동 시간 설정
+ * Swagger UI/OpenAPI 문서(springdoc)처럼 개발 중에만 쓰는 bean은 기동 시 만들지 않고 처음 사용할 때 만듦 (lazy init)
+ * 전체 lazy init(spring.main.lazy-initialization)은 첫 요청이 느려지고 설정 오류를 늦게 발견하게 되므로 패키지 단위로만 적용
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final List<String> LAZY_PACKAGES = List.of("org.springdoc.");
+
+    // BeanFactoryPostProcessor는 다른 bean보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static BeanFactoryPostProcessor lazyDevBeansPostProcessor() {
+        return new LazyPackagesPostProcessor(LAZY_PACKAGES);
+    }
+
+    static class LazyPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+        private final List<String> packages;
+
+        LazyPackagesPostProcessor(List<String> packages) {
+            this.packages = packages;
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                // @Lazy(false) 등 명시적으로 지정한 경우와 인프라 bean은 그대로 둠
+                if (definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+                        || (definition instanceof AbstractBeanDefinition abstractDefinition && abstractDefinition.getLazyInit() != null)) {
+                    continue;
+                }
+                Class<?> type = beanFactory.getType(beanName, false);
+                if (type == null || !isInLazyPackage(type)
+                        // 기동 시점에 실행되어야 의미가 있는 bean
+                        || SmartInitializingSingleton.class.isAssignableFrom(type)
+                        || BeanPostProcessor.class.isAssignableFrom(type)) {
+                    continue;
+                }
+                definition.setLazyInit(true);
+            }
+        }
+
+        private boolean isInLazyPackage(Class<?> type) {
+            String name = type.getName();
+            return packages.stream().anyMatch(name::startsWith);
+        }
+    }
+}
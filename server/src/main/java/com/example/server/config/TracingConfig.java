@@ -0,0 +1,23 @@
+package com.example.server.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 추적 설정 (Micrometer Observation -> OpenTelemetry, management.otlp.tracing.endpoint로 전송)
+ * - HTTP 요청, Security 필터 체인, WebClient 호출, @Scheduled 작업: Spring Boot 자동 계측
+ * - SQL: datasource-micrometer (커넥션 획득, 쿼리마다 span)
+ * - 서비스 메서드: @Observed가 붙은 서비스 (아래 aspect)
+ * 샘플링은 management.tracing.sampling.probability 비율로 하고, 상위 서비스가 정한 샘플링 여부는 그대로 따름
+ */
+@Configuration
+public class TracingConfig {
+
+    // @Observed 처리 (Boot 자동 설정은 management.observations.annotations.enabled=true 일 때만 등록됨)
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
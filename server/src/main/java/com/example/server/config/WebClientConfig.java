@@ -1,5 +1,6 @@
 package com.example.server.config;
 
+import com.example.server.global.metrics.UpstreamClientObservationConvention;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +11,10 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
+/**
+ * 외부 API WebClient 설정
+ * Spring Boot가 만든 WebClient.Builder(prototype)를 사용해야 호출 메트릭(http.client.requests)이 기록됨
+ */
 @Configuration
 public class WebClientConfig {
 
@@ -20,9 +25,10 @@ public class WebClientConfig {
     }
 
     @Bean
-    public WebClient supabaseWebClient(SupabaseProperties props) {
-        WebClient.Builder builder = WebClient.builder()
-                .baseUrl(props.getUrl());
+    public WebClient supabaseWebClient(SupabaseProperties props, WebClient.Builder webClientBuilder) {
+        WebClient.Builder builder = webClientBuilder
+                .baseUrl(props.getUrl())
+                .observationConvention(new UpstreamClientObservationConvention("supabase"));
 
         // 기본 header로 anon key 설정
         if (props.getAnonKey() != null && !props.getAnonKey().isBlank()) {
@@ -33,7 +39,7 @@ public class WebClientConfig {
     }
 
     @Bean
-    public WebClient geminiWebClient() {
+    public WebClient geminiWebClient(WebClient.Builder webClientBuilder) {
         // UTF-8 인코딩을 위한 ExchangeStrategies 설정
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(configurer -> {
@@ -50,8 +56,9 @@ public class WebClientConfig {
                 })
                 .build();
 
-        return WebClient.builder()
+        return webClientBuilder
                 .exchangeStrategies(strategies)
+                .observationConvention(new UpstreamClientObservationConvention("gemini"))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8")
                 .defaultHeader(HttpHeaders.ACCEPT, "application/json; charset=UTF-8")
                 .defaultHeader(HttpHeaders.ACCEPT_CHARSET, "UTF-8")
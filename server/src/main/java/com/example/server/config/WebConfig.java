@@ -1,11 +1,14 @@
 package com.example.server.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+/**
+ * HTTP message converter는 Spring Boot 기본 구성을 그대로 사용
+ * (byte[] -> 캐시된 JSON 그대로, String -> UTF-8, 그 외 -> 공유 ObjectMapper로 응답 스트림에 바로 직렬화)
+ */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -16,18 +19,4 @@ public class WebConfig implements WebMvcConfigurer {
         filter.setForceEncoding(true);
         return filter;
     }
-
-    @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        // 한글 등 non-ASCII 문자를 이스케이프하지 않고 그대로 유지
-        mapper.configure(com.fasterxml.jackson.core.JsonGenerator.Feature.ESCAPE_NON_ASCII, false);
-        return mapper;
-    }
-
-    @Override
-    public void configureMessageConverters(java.util.List<org.springframework.http.converter.HttpMessageConverter<?>> converters) {
-        converters.add(new org.springframework.http.converter.StringHttpMessageConverter(java.nio.charset.StandardCharsets.UTF_8));
-        converters.add(new org.springframework.http.converter.json.MappingJackson2HttpMessageConverter());
-    }
 }
@@ -0,0 +1,142 @@
+package com.example.server.global.common;
+
+import com.example.server.global.repository.ContentVersionRepository;
+import com.example.server.global.util.HttpCacheUtil;
+import com.example.server.global.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET(ETag / If-None-Match)용 리소스 버전
+ * 조회수/댓글 수는 bulk UPDATE로 갱신되어 updated_at이 바뀌지 않으므로, 변경할 때 content_versions 테이블의 버전을 올리고
+ * 요청 시에는 버전 행만 읽어서 ETag를 만듦
+ * 버전이 DB에 있으므로 서버가 여러 대이거나 재시작해도 같은 데이터에는 같은 ETag가 나옴
+ * - 사이트 전체가 공유하는 목록/전체 버전 행은 쓰기 트랜잭션 안에서 올리면 모든 쓰기가 커밋까지 그 행 잠금을 기다리므로,
+ *   커밋 이후 별도의 짧은 트랜잭션에서 올림 (커밋과 버전 증가 사이의 짧은 동안은 이전 ETag로 304가 나갈 수 있음)
+ * - 사용자별 버전 행은 그 사용자의 쓰기끼리만 겹치므로 쓰기 트랜잭션 안에서 올림
+ * (게시글 상세는 posts 행의 수정 시각과 댓글 버전을 사용, BoardService.getPostETag)
+ */
+@Slf4j
+@Component
+public class ContentVersions {
+
+    private static final String BOARD = "board";
+    // 닉네임 변경, 게시글 제목 변경/삭제처럼 여러 리소스에 걸친 변경
+    public static final String GLOBAL = "global";
+
+    private final ContentVersionRepository contentVersionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate newTransaction;
+
+    public ContentVersions(ContentVersionRepository contentVersionRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.contentVersionRepository = contentVersionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 조건부 GET 처리
+     * ETag와 본문을 같은 읽기 전용 트랜잭션(같은 커넥션, 복제본을 쓰면 같은 복제본)에서 ETag부터 읽음
+     * 본문은 항상 ETag를 읽은 시점 이후의 데이터이므로 이전 본문에 새 ETag가 붙는 경우가 없음
+     * (반대로 새 본문에 이전 ETag가 붙으면 다음 요청이 200으로 한 번 더 응답할 뿐)
+     * @param request 현재 요청
+     * @param etag 현재 ETag 조회
+     * @param body ETag가 일치하지 않을 때 본문 조회 (ETag를 인자로 받음)
+     * @return If-None-Match가 일치하면 null (304), 아니면 ETag와 본문을 담은 200 응답
+     */
+    public <T> ResponseEntity<T> conditionalGet(ServletWebRequest request, Supplier<String> etag, Function<String, T> body) {
+        return readOnlyTransaction.execute(status -> {
+            String currentETag = etag.get();
+            if (HttpCacheUtil.checkNotModified(request, currentETag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(HttpCacheUtil.REVALIDATE)
+                    .eTag(currentETag)
+                    .body(body.apply(currentETag));
+        });
+    }
+
+    // 게시글 목록
+    public String getBoardETag() {
+        Map<String, Long> versions = contentVersionRepository.findVersions(List.of(BOARD, GLOBAL));
+        return "\"" + versions.getOrDefault(BOARD, 0L) + "-" + versions.getOrDefault(GLOBAL, 0L) + "\"";
+    }
+
+    // 사용자 활동 내역 (/api/users/me/posts, /api/users/me/comments)
+    public String getUserETag(UUID userId) {
+        return "\"" + getUserVersions(userId) + "\"";
+    }
+
+    // 사용자 프로필 (/api/users/me), 버전 없이 바뀌는 통계(조회수 합계 등)는 응답에 들어가는 값을 그대로 넣음
+    public String getProfileETag(UUID userId, long postCount, long commentCount, long totalViews) {
+        return "\"" + getUserVersions(userId) + "-" + postCount + "-" + commentCount + "-" + totalViews + "\"";
+    }
+
+    /**
+     * 게시글 생성, 댓글 생성/삭제 (목록과 작성자의 활동 내역이 바뀜)
+     * @param authorId 변경한 사용자 ID
+     */
+    public void boardChanged(UUID authorId) {
+        contentVersionRepository.increase(user(authorId));
+        increaseAfterCommit(BOARD);
+    }
+
+    /**
+     * 댓글 수정 (작성자의 활동 내역만 바뀜)
+     * @param userId 변경한 사용자 ID
+     */
+    public void userChanged(UUID userId) {
+        contentVersionRepository.increase(user(userId));
+    }
+
+    /**
+     * 게시글 수정/삭제, 닉네임 변경, 대량 가져오기
+     * 다른 사용자 프로필의 댓글 목록(게시글 제목)까지 바뀔 수 있으므로 전체 버전을 올림
+     */
+    public void globalChanged() {
+        increaseAfterCommit(GLOBAL);
+    }
+
+    /**
+     * 조회수 반영 (목록의 조회수만 바뀜)
+     */
+    public void viewCountsFlushed() {
+        increaseAfterCommit(BOARD);
+    }
+
+    // 커밋 이후 별도 트랜잭션으로 올림 (afterCommit 시점에는 기존 트랜잭션의 커넥션이 아직 묶여 있으므로 REQUIRES_NEW)
+    // 실패해도 이미 커밋된 변경은 되돌리지 않고, 다음 변경 때 버전이 다시 올라감
+    private void increaseAfterCommit(String name) {
+        TransactionUtil.runAfterCommit(() -> {
+            try {
+                newTransaction.executeWithoutResult(status -> contentVersionRepository.increase(name));
+            } catch (RuntimeException e) {
+                log.warn("ETag 버전 증가 실패 ({}): {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private String getUserVersions(UUID userId) {
+        Map<String, Long> versions = contentVersionRepository.findVersions(List.of(user(userId), GLOBAL));
+        return versions.getOrDefault(user(userId), 0L) + "-" + versions.getOrDefault(GLOBAL, 0L);
+    }
+
+    private static String user(UUID userId) {
+        return "user:" + userId;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.server.global.datasource;
+
+import com.example.server.global.util.TransactionUtil;
+import io.micrometer.context.ContextScheduledExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 복제본(replica) 사용 시 복제 지연으로 생기는 오래된 읽기를 막기 위한 규칙
+ * - read-your-writes: 사용자가 쓰기 트랜잭션을 커밋하면 max-lag-ms 동안 그 사용자의 읽기는 primary로 보냄
+ * - 캐시/ETag 무효화는 커밋 직후 한 번, 복제본이 따라잡은 뒤(max-lag-ms 후) 한 번 더 실행해서
+ *   그 사이 복제본에서 읽은 이전 데이터가 캐시에 남지 않도록 함
+ * 복제본이 설정되지 않은 경우에는 커밋 후 한 번만 실행하고 아무 것도 기록하지 않음
+ */
+@Component
+public class ReplicaConsistency {
+
+    private final boolean enabled;
+    private final long maxLagMillis;
+    // 사용자 -> 이 시각(System.nanoTime)까지는 primary에서 읽음
+    private final Map<String, Long> primaryPinnedUntil = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaConsistency(@Value("${datasource.replica.urls:}") List<String> replicaUrls,
+                              @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMillis) {
+        this.enabled = !replicaUrls.isEmpty() && maxLagMillis > 0;
+        this.maxLagMillis = maxLagMillis;
+        // 예약한 요청의 trace 정보(로그의 traceId 등)를 실행 스레드로 전달
+        this.scheduler = enabled ? ContextScheduledExecutorService.wrap(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-catch-up");
+            thread.setDaemon(true);
+            return thread;
+        }), ContextSnapshotFactory.builder().build()) : null;
+    }
+
+    // 복제본을 쓰지 않는 환경 (테스트 등)
+    public static ReplicaConsistency disabled() {
+        return new ReplicaConsistency(List.of(), 0);
+    }
+
+    /**
+     * 커밋 후 실행하고, 복제본을 쓰는 경우 max-lag-ms 뒤에 한 번 더 실행
+     * @param action 캐시 제거, 버전 증가처럼 여러 번 실행해도 되는 작업
+     */
+    public void runAfterCommit(Runnable action) {
+        TransactionUtil.runAfterCommit(action);
+        if (enabled) {
+            TransactionUtil.runAfterCommit(() -> runAfterCatchUp(action));
+        }
+    }
+
+    /**
+     * 복제본을 쓰는 경우에만 max-lag-ms 뒤에 실행 (트랜잭션 밖에서 이미 반영된 변경용)
+     */
+    public void runAfterCatchUp(Runnable action) {
+        if (enabled) {
+            scheduler.schedule(action, maxLagMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 현재 사용자가 쓰기 트랜잭션을 커밋했음을 기록 (커밋 후 반영)
+     */
+    public void recordWrite() {
+        if (!enabled) {
+            return;
+        }
+        String userKey = currentUserKey();
+        if (userKey != null) {
+            TransactionUtil.runAfterCommit(() -> primaryPinnedUntil.put(userKey, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLagMillis)));
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓴 데이터가 아직 복제본에 없을 수 있으면 true
+     */
+    public boolean mustReadFromPrimary() {
+        if (!enabled || primaryPinnedUntil.isEmpty()) {
+            return false;
+        }
+        String userKey = currentUserKey();
+        if (userKey == null) {
+            return false;
+        }
+        Long until = primaryPinnedUntil.get(userKey);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    // 기간이 지난 기록 정리
+    public void prune() {
+        long now = System.nanoTime();
+        primaryPinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.server.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 primary로 보내는 DataSource
+ * 트랜잭션의 readOnly 여부는 실제 커넥션을 얻는 시점에 판단하므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ * - 복제본은 라운드 로빈으로 고르고, 커넥션 획득에 실패하거나 health check(연결 확인, 복제 지연)에 실패하면
+ *   다시 정상이 될 때까지 제외함 (정상인 복제본이 없으면 primary에서 읽음)
+ * - 최근에 쓰기를 커밋한 사용자의 읽기는 primary로 보냄 (ReplicaConsistency)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaConsistency replicaConsistency;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * @param primary 쓰기용 DataSource
+     * @param replicas 읽기 전용 복제본 DataSource 목록
+     * @param replicaConsistency read-your-writes 판단
+     * @param lagQuery 복제 지연(ms)을 반환하는 쿼리 (빈 값이면 연결 확인만 함)
+     * @param maxLagMillis 이보다 지연이 크면 복제본을 제외
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaConsistency replicaConsistency,
+                                    String lagQuery, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.replicaConsistency = replicaConsistency;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                replicaConsistency.recordWrite();
+            }
+            return primary.getConnection();
+        }
+        if (replicaConsistency.mustReadFromPrimary()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        // 사용할 수 있는 복제본이 없으면 primary에서 읽음
+        return primary.getConnection();
+    }
+
+    /**
+     * 계정을 지정한 커넥션은 primary 계정 기준이므로 읽기 전용 여부와 상관없이 primary로 보냄
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            replicaConsistency.recordWrite();
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 각 복제본의 연결과 복제 지연을 확인해서 사용 여부를 갱신
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markDown("연결 확인 실패");
+                    continue;
+                }
+                long lag = measureLag(connection);
+                if (lag > maxLagMillis) {
+                    replica.markDown("복제 지연 " + lag + "ms");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        replicaConsistency.prune();
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * primary와 모든 복제본 DataSource (시작 시 커넥션 풀 워밍업용)
+     */
+    public List<DataSource> getTargetDataSources() {
+        List<DataSource> targets = new ArrayList<>();
+        targets.add(primary);
+        replicas.forEach(replica -> targets.add(replica.dataSource));
+        return targets;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 복제 중이 아니면 null이 나올 수 있음 (지연 없음으로 봄)
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private static class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("읽기 복제본 제외, primary 또는 다른 복제본에서 읽음: {}", reason);
+            }
+            healthy = false;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("읽기 복제본 복구");
+            }
+            healthy = true;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.server.global.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * 조건부 GET(ETag)용 리소스 버전 (board, global, user:{사용자 ID})
+ * 변경하는 쓰기 트랜잭션 안에서 원자적 UPDATE로만 올리므로, 여러 서버가 같은 버전을 읽음
+ */
+@Entity
+@Table(name = "content_versions")
+@Getter
+public class ContentVersion {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,250 @@
+package com.example.server.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 크기가 정해진 lock-free 링 버퍼 (여러 생산자, 여러 소비자)
+ * 생산자는 CAS로 다음 순번을 얻어 슬롯에 이벤트를 쓰고, 소비자(핸들러)마다 전용 스레드가 자기 순번을 따라가며
+ * 발행된 이벤트를 최대 maxBatchSize개씩 묶어서 처리함 (모든 소비자가 모든 이벤트를 받음)
+ * 가장 느린 소비자가 한 바퀴 뒤처지면 버퍼가 가득 찬 것으로 보고, 생산자는 정해진 시간만큼만 기다린 뒤 이벤트를 버림
+ * 마지막으로 읽은 소비자가 슬롯을 비우므로 처리가 끝난 이벤트(댓글 본문 등)를 다음 바퀴까지 붙잡아 두지 않음
+ */
+@Slf4j
+public class EventRingBuffer<T> {
+
+    // 소비자가 할 일이 없을 때 잠드는 최대 시간 (생산자가 깨우지 못한 경우 대비)
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public interface BatchHandler<T> {
+        void onBatch(List<T> batch);
+    }
+
+    private final Object[] entries;
+    // 슬롯마다 마지막으로 발행된 순번 (소비자는 자기가 기다리는 순번과 같을 때만 읽음)
+    private final AtomicLongArray published;
+    // 슬롯마다 아직 읽지 않은 소비자 수
+    private final AtomicIntegerArray unread;
+    private final int mask;
+    private final int maxBatchSize;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final LongAdder dropped = new LongAdder();
+    private final List<Consumer> consumers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param maxBatchSize 소비자가 한 번에 처리하는 최대 이벤트 수
+     * @param handlers 소비자 이름 -> 핸들러
+     * @param threadFactory 소비자 스레드 생성
+     */
+    public EventRingBuffer(int capacity, int maxBatchSize, Map<String, BatchHandler<T>> handlers, ThreadFactory threadFactory) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.entries = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.unread = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+        this.maxBatchSize = maxBatchSize;
+
+        handlers.forEach((name, handler) -> consumers.add(new Consumer(name, handler)));
+        for (Consumer consumer : consumers) {
+            consumer.thread = threadFactory.newThread(consumer);
+            consumer.thread.start();
+        }
+    }
+
+    /**
+     * 이벤트 발행
+     * @param event 이벤트
+     * @param timeoutNanos 버퍼가 가득 찼을 때 기다리는 최대 시간
+     * @return 발행되면 true, 버퍼가 계속 가득 차 있거나 종료된 경우 false (이벤트는 버려짐)
+     */
+    public boolean publish(T event, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            // 같은 슬롯을 쓰던 한 바퀴 전 이벤트를 아직 처리하지 않은 소비자가 있으면 가득 찬 상태
+            if (!running || next - entries.length > minimumConsumerSequence()) {
+                if (!running || System.nanoTime() - deadline >= 0) {
+                    dropped.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(current, next)) {
+                int slot = (int) (next & mask);
+                entries[slot] = event;
+                unread.set(slot, consumers.size());
+                // volatile 쓰기라서 소비자가 순번을 확인한 뒤에는 위에서 쓴 이벤트가 보임
+                published.set(slot, next);
+                for (Consumer consumer : consumers) {
+                    if (consumer.waiting) {
+                        LockSupport.unpark(consumer.thread);
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 새 이벤트를 받지 않고, 이미 발행된 이벤트를 처리할 때까지 기다린 뒤 소비자 스레드 종료
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+            try {
+                consumer.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    public long getPublishedCount() {
+        return claimed.get() + 1;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public List<ConsumerStats> getConsumerStats() {
+        long head = claimed.get();
+        return consumers.stream()
+                .map(consumer -> new ConsumerStats(consumer.name, head - consumer.sequence.get(),
+                        consumer.processed.sum(), consumer.batches.sum(), consumer.maxBatch, consumer.errors.sum()))
+                .toList();
+    }
+
+    private long minimumConsumerSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T entryAt(long sequence) {
+        return (T) entries[(int) (sequence & mask)];
+    }
+
+    // 모든 소비자가 읽은 슬롯을 비움
+    // 소비자가 순번(sequence)을 올리기 전에 호출하므로 생산자가 같은 슬롯에 다음 이벤트를 쓰기 전에 끝남
+    private void release(long sequence) {
+        int slot = (int) (sequence & mask);
+        if (unread.decrementAndGet(slot) == 0) {
+            entries[slot] = null;
+        }
+    }
+
+    // 아직 비워지지 않은 슬롯 수 (테스트용)
+    int getRetainedCount() {
+        int retained = 0;
+        for (Object entry : entries) {
+            if (entry != null) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ConsumerStats {
+        private String name;
+        // 발행됐지만 아직 처리하지 않은 이벤트 수
+        private long lag;
+        private long processed;
+        private long batches;
+        private int maxBatchSize;
+        private long errors;
+    }
+
+    private class Consumer implements Runnable {
+        private final String name;
+        private final BatchHandler<T> handler;
+        // 마지막으로 처리한 순번
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private volatile int maxBatch;
+        private volatile boolean waiting;
+        private Thread thread;
+
+        Consumer(String name, BatchHandler<T> handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        @Override
+        public void run() {
+            List<T> batch = new ArrayList<>(maxBatchSize);
+            long next = sequence.get() + 1;
+            while (true) {
+                long available = next;
+                while (available - next < maxBatchSize && published.get((int) (available & mask)) == available) {
+                    batch.add(entryAt(available));
+                    release(available);
+                    available++;
+                }
+
+                if (batch.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    waiting = true;
+                    // waiting 표시 후 한 번 더 확인해서 생산자의 깨우기를 놓치지 않도록 함
+                    if (published.get((int) (next & mask)) != next && running) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                    continue;
+                }
+
+                try {
+                    handler.onBatch(batch);
+                } catch (Exception e) {
+                    // 한 배치의 실패 때문에 뒤의 이벤트가 막히지 않도록 기록만 하고 넘어감
+                    errors.increment();
+                    log.error("이벤트 처리 실패: consumer={}, batch={}", name, batch.size(), e);
+                }
+                processed.add(batch.size());
+                batches.increment();
+                if (batch.size() > maxBatch) {
+                    maxBatch = batch.size();
+                }
+                sequence.set(available - 1);
+                next = available;
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.global.exception;
+
+import com.example.server.global.common.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예상된 도메인 오류(404, 403 등)의 공통 부모
+ * 정상적인 요청 흐름의 일부라서 스택 트레이스를 만들지 않고(fillInStackTrace 생략),
+ * 응답은 예외 종류와 메시지별로 한 번만 만들어서 재사용함
+ * 메시지는 상수만 사용하고, 대상 ID 같은 상세 정보는 각 예외의 필드로 둠
+ */
+public abstract class DomainException extends RuntimeException {
+
+    // 예외 종류 -> 메시지 -> 응답 (메시지가 상수라서 개수가 고정됨)
+    private static final ClassValue<Map<String, ResponseEntity<ErrorResponse>>> RESPONSES = new ClassValue<>() {
+        @Override
+        protected Map<String, ResponseEntity<ErrorResponse>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final HttpStatus status;
+
+    protected DomainException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public ResponseEntity<ErrorResponse> toResponse() {
+        return RESPONSES.get(getClass()).computeIfAbsent(getMessage(),
+                message -> new ResponseEntity<>(new ErrorResponse(message, status.value()), status));
+    }
+}
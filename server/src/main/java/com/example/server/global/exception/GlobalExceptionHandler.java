@@ -1,11 +1,10 @@
 package com.example.server.global.exception;
 
 import com.example.server.auth.exception.SupabaseAuthException;
-import com.example.server.board.exception.CommentNotFoundException;
-import com.example.server.board.exception.NoPermissionException;
-import com.example.server.board.exception.PostNotFoundException;
+import com.example.server.board.exception.BoardImportException;
 import com.example.server.global.common.ErrorResponse;
-import com.example.server.user.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,8 +12,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final ResponseEntity<ErrorResponse> INTERNAL_SERVER_ERROR = new ResponseEntity<>(
+            new ErrorResponse("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR.value()),
+            HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final UnexpectedErrorLogger unexpectedErrorLogger;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
         String errorMessage = ex.getBindingResult().getAllErrors().getFirst().getDefaultMessage();
@@ -28,36 +34,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, ex.getStatusCode());
     }
 
-    @ExceptionHandler(PostNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handlePostNotFoundException(PostNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND.value());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
-    }
-
-    @ExceptionHandler(CommentNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleCommentNotFoundException(CommentNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND.value());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
-    }
-
-    @ExceptionHandler(NoPermissionException.class)
-    public ResponseEntity<ErrorResponse> handleNoPermissionException(NoPermissionException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.FORBIDDEN.value());
-        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    @ExceptionHandler(BoardImportException.class)
+    public ResponseEntity<ErrorResponse> handleBoardImportException(BoardImportException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST.value());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
-    @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND.value());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    // 404/403 등 예상된 도메인 오류는 로그 없이 미리 만들어둔 응답을 그대로 반환
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
+        return ex.toResponse();
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleException(Exception ex) {
-        System.err.println("Internal Server Error: " + ex.getMessage());
-        ex.printStackTrace();
-
-        ErrorResponse errorResponse = new ErrorResponse("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ErrorResponse> handleException(Exception ex, HttpServletRequest request) {
+        // 오류가 몰려도 요청 스레드가 로그 출력을 기다리지 않도록 비동기로 기록 (초당 건수 제한)
+        unexpectedErrorLogger.log(request.getMethod(), request.getRequestURI(), ex);
+        return INTERNAL_SERVER_ERROR;
     }
 }
@@ -0,0 +1,106 @@
+package com.example.server.global.exception;
+
+import com.example.server.global.event.EventRingBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예상하지 못한 오류(500) 로깅
+ * 요청 스레드는 링 버퍼에 넣기만 하고 로그 출력(스택 트레이스 포함)은 전용 스레드에서 처리함
+ * 초당 max-per-second 건까지만 기록하고, 넘치거나 버퍼가 가득 찬 오류는 개수만 세서 다음 로그에 함께 남김
+ * 요청 스레드의 MDC(traceId, spanId 등)를 복사해 두었다가 로그를 남길 때 되돌려서 요청의 trace와 연결함
+ */
+@Slf4j
+@Component
+public class UnexpectedErrorLogger {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+
+    private final EventRingBuffer<ErrorLogEntry> ringBuffer;
+    private final int maxPerSecond;
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger countInSecond = new AtomicInteger();
+    // 마지막 로그 이후 버려진 개수 / 전체 버려진 개수
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder suppressedTotal = new LongAdder();
+
+    public UnexpectedErrorLogger(@Value("${error-log.max-per-second:10}") int maxPerSecond,
+                                 @Value("${error-log.buffer-size:256}") int bufferSize) {
+        this.maxPerSecond = maxPerSecond;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("error-log-");
+        threadFactory.setDaemon(true);
+        this.ringBuffer = new EventRingBuffer<>(bufferSize, 64, Map.of("error-log", this::write), threadFactory);
+    }
+
+    /**
+     * 오류 기록 요청 (기다리지 않고 바로 반환)
+     * @param method HTTP 메서드
+     * @param uri 요청 URI
+     * @param error 발생한 예외
+     */
+    public void log(String method, String uri, Throwable error) {
+        if (!tryAcquire() || !ringBuffer.publish(new ErrorLogEntry(method, uri, error, MDC.getCopyOfContextMap()), 0)) {
+            suppressed.increment();
+            suppressedTotal.increment();
+        }
+    }
+
+    public long getSuppressedCount() {
+        return suppressedTotal.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ringBuffer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    // 1초 단위 고정 window (window가 바뀌는 순간에는 한도를 약간 넘을 수 있음)
+    private boolean tryAcquire() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long window = currentSecond.get();
+        if (second != window && currentSecond.compareAndSet(window, second)) {
+            countInSecond.set(0);
+        }
+        return countInSecond.incrementAndGet() <= maxPerSecond;
+    }
+
+    private void write(List<ErrorLogEntry> entries) {
+        for (ErrorLogEntry entry : entries) {
+            if (entry.mdc != null) {
+                MDC.setContextMap(entry.mdc);
+            }
+            try {
+                log.error("예상하지 못한 오류: method={}, uri={}, type={}, suppressed={}",
+                        entry.method, entry.uri, entry.error.getClass().getName(), suppressed.sumThenReset(), entry.error);
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static class ErrorLogEntry {
+        private final String method;
+        private final String uri;
+        private final Throwable error;
+        // 요청 스레드의 MDC 복사본 (비어 있으면 null)
+        private final Map<String, String> mdc;
+
+        ErrorLogEntry(String method, String uri, Throwable error, Map<String, String> mdc) {
+            this.method = method;
+            this.uri = uri;
+            this.error = error;
+            this.mdc = mdc;
+        }
+    }
+}
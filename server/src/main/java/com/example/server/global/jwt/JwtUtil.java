@@ -1,10 +1,15 @@
 package com.example.server.global.jwt;
 
 import com.example.server.config.SupabaseProperties;
+import com.example.server.global.metrics.UpstreamClientObservationConvention;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,9 +17,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 import java.math.BigInteger;
 import java.net.URI;
 import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.spec.ECGenParameterSpec;
 import java.security.spec.ECPoint;
 import java.security.spec.ECParameterSpec;
@@ -33,11 +40,30 @@ public class JwtUtil {
 
     private final SupabaseProperties supabaseProperties;
     private final WebClient webClient;
+    // JWKS에서 받은 키만 들어감 (prefetchKeys, 캐시에 없는 kid를 만났을 때의 JWKS 조회)
     private final Map<String, Key> keyCache = new ConcurrentHashMap<>();
+    private final SigningKeyResolverAdapter jwksKeyResolver = new SigningKeyResolverAdapter() {
+        // JWT 헤더의 kid(Key ID)를 기반으로 서명 키를 동적으로 찾아 반환합니다.
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            // 캐시에 키가 없으면 getPublicKey 메서드를 호출하여 가져온 후 캐싱
+            return keyCache.computeIfAbsent(kid, k -> Observation.createNotStarted("jwt.jwks.fetch", observationRegistry)
+                    .observe(() -> getPublicKey(k)));
+        }
+    };
+
+    // 서명 검증(파싱 포함)과 JWKS 조회를 span + 타이머(jwt.verify, jwt.jwks.fetch)로 기록
+    private final ObservationRegistry observationRegistry;
 
-    public JwtUtil(SupabaseProperties supabaseProperties) {
+    public JwtUtil(SupabaseProperties supabaseProperties, WebClient.Builder webClientBuilder,
+                   MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
         this.supabaseProperties = supabaseProperties;
-        this.webClient = WebClient.create();
+        this.webClient = webClientBuilder
+                .observationConvention(new UpstreamClientObservationConvention("supabase-jwks"))
+                .build();
+        this.observationRegistry = observationRegistry;
+        Gauge.builder("jwt.key.cache.size", keyCache, Map::size).register(meterRegistry);
     }
 
     /**
@@ -46,16 +72,43 @@ public class JwtUtil {
      * @return JWT 클레임
      */
     public Claims getClaims(String token) {
+        return verify(token, jwksKeyResolver);
+    }
+
+    /**
+     * 주어진 공개 키로 서명을 검증하고 클레임을 추출 (시작 워밍업에서 직접 서명한 토큰용)
+     * 파싱/검증/관측 경로는 getClaims와 같고, JWKS 키 캐시는 읽거나 바꾸지 않음
+     * @param token JWT 문자열
+     * @param key 검증에 사용할 공개 키
+     * @return JWT 클레임
+     */
+    public Claims getClaims(String token, PublicKey key) {
+        return verify(token, new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return key;
+            }
+        });
+    }
+
+    private Claims verify(String token, SigningKeyResolverAdapter keyResolver) {
+        Observation observation = Observation.start("jwt.verify", observationRegistry);
+        try (Observation.Scope ignored = observation.openScope()) {
+            Claims claims = parseClaims(token, keyResolver);
+            observation.lowCardinalityKeyValue("result", "success");
+            return claims;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("result", "failure");
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private Claims parseClaims(String token, SigningKeyResolverAdapter keyResolver) {
         return Jwts.parser()
-                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
-                    // JWT 헤더의 kid(Key ID)를 기반으로 서명 키를 동적으로 찾아 반환합니다.
-                    @Override
-                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
-                        String kid = header.getKeyId();
-                        // 캐시에 키가 없으면 getPublicKey 메서드를 호출하여 가져온 후 캐싱
-                        return keyCache.computeIfAbsent(kid, k -> getPublicKey(k));
-                    }
-                })
+                .setSigningKeyResolver(keyResolver)
                 .build()
                 .parseClaimsJws(token)
                 .getBody();
@@ -95,6 +148,30 @@ public class JwtUtil {
         return UUID.fromString(subject);
     }
 
+    /**
+     * JWKS의 키를 모두 받아서 미리 캐싱 (시작 시 워밍업용, Supabase와의 TLS 연결도 이때 맺어짐)
+     * 지원하지 않는 키 타입은 건너뜀
+     * @return 캐싱된 키 수
+     */
+    public int prefetchKeys() {
+        return Observation.createNotStarted("jwt.jwks.fetch", observationRegistry).observe(() -> {
+            int count = 0;
+            for (Map<String, String> keyInfo : fetchKeys()) {
+                String kid = keyInfo.get("kid");
+                if (kid == null) {
+                    continue;
+                }
+                try {
+                    keyCache.putIfAbsent(kid, toPublicKey(keyInfo));
+                    count++;
+                } catch (Exception e) {
+                    log.warn("JWKS 키를 캐싱하지 못함 (kid={}): {}", kid, e.getMessage());
+                }
+            }
+            return count;
+        });
+    }
+
     /**
      * JWKS(JSON Web Key Set)에서 kid에 해당하는 공개 키를 가져와 생성합
      * @param kid Key ID
@@ -102,72 +179,13 @@ public class JwtUtil {
      */
     private Key getPublicKey(String kid) {
         try {
-            // Supabase JWKS 엔드포인트에서 JWKS를 가져옴
-            Map<String, List<Map<String, String>>> jwks = webClient.get()
-                    .uri(URI.create(supabaseProperties.getJwksUrl()))
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (jwks == null || !jwks.containsKey("keys")) {
-                throw new RuntimeException("유효하지 않은 JWKS 형식");
-            }
-
             // JWKS에서 kid가 일치하는 키 정보를 찾기
-            Map<String, String> keyInfo = jwks.get("keys").stream()
+            Map<String, String> keyInfo = fetchKeys().stream()
                     .filter(key -> kid.equals(key.get("kid")))
                     .findFirst()
                     .orElseThrow(() -> new RuntimeException("kid에 해당하는 공개 키를 찾을 수 없음: " + kid));
 
-            String kty = keyInfo.get("kty");
-
-            if ("EC".equals(kty)) {
-                // EC(Elliptic Curve) 키 처리
-                String x = keyInfo.get("x");
-                String y = keyInfo.get("y");
-                String crv = keyInfo.get("crv");
-
-                if (x == null || y == null || crv == null) {
-                    throw new RuntimeException("EC 키 구성 요소(x, y, crv)가 누락");
-                }
-
-                // Base64 URL 디코딩 및 BigInteger 변환
-                BigInteger ecX = new BigInteger(1, Base64.getUrlDecoder().decode(x));
-                BigInteger ecY = new BigInteger(1, Base64.getUrlDecoder().decode(y));
-                ECPoint ecPoint = new ECPoint(ecX, ecY);
-
-                // 곡선 이름(crv)에 따라 ECParameterSpec 결정
-                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
-                switch (crv) {
-                    case "P-256":
-                        parameters.init(new ECGenParameterSpec("secp256r1"));
-                        break;
-                    case "P-384":
-                        parameters.init(new ECGenParameterSpec("secp384r1"));
-                        break;
-                    case "P-521":
-                        parameters.init(new ECGenParameterSpec("secp521r1"));
-                        break;
-                    default:
-                        throw new RuntimeException("지원하지 않는 EC 곡선: " + crv);
-                }
-                ECParameterSpec ecSpec = parameters.getParameterSpec(ECParameterSpec.class);
-
-                // ECPublicKeySpec을 사용하여 공개 키 생성
-                ECPublicKeySpec pubSpec = new ECPublicKeySpec(ecPoint, ecSpec);
-                KeyFactory factory = KeyFactory.getInstance("EC");
-                return factory.generatePublic(pubSpec);
-
-            } else if ("RSA".equals(kty)) {
-                // RSA 키 처리
-                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyInfo.get("n")));
-                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyInfo.get("e")));
-                RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
-                KeyFactory factory = KeyFactory.getInstance("RSA");
-                return factory.generatePublic(spec);
-            } else {
-                throw new RuntimeException("지원하지 않는 키 타입: " + kty);
-            }
+            return toPublicKey(keyInfo);
 
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
             log.error("공개 키 생성 중 오류 발생", e);
@@ -177,4 +195,71 @@ public class JwtUtil {
             throw new RuntimeException("공개 키를 가져오는 중 예상치 못한 오류 발생", e);
         }
     }
+
+    // Supabase JWKS 엔드포인트에서 키 목록을 가져옴
+    private List<Map<String, String>> fetchKeys() {
+        Map<String, List<Map<String, String>>> jwks = webClient.get()
+                .uri(URI.create(supabaseProperties.getJwksUrl()))
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+
+        if (jwks == null || !jwks.containsKey("keys")) {
+            throw new RuntimeException("유효하지 않은 JWKS 형식");
+        }
+        return jwks.get("keys");
+    }
+
+    // JWK 항목으로 공개 키 생성
+    private static Key toPublicKey(Map<String, String> keyInfo) throws GeneralSecurityException {
+        String kty = keyInfo.get("kty");
+
+        if ("EC".equals(kty)) {
+            // EC(Elliptic Curve) 키 처리
+            String x = keyInfo.get("x");
+            String y = keyInfo.get("y");
+            String crv = keyInfo.get("crv");
+
+            if (x == null || y == null || crv == null) {
+                throw new RuntimeException("EC 키 구성 요소(x, y, crv)가 누락");
+            }
+
+            // Base64 URL 디코딩 및 BigInteger 변환
+            BigInteger ecX = new BigInteger(1, Base64.getUrlDecoder().decode(x));
+            BigInteger ecY = new BigInteger(1, Base64.getUrlDecoder().decode(y));
+            ECPoint ecPoint = new ECPoint(ecX, ecY);
+
+            // 곡선 이름(crv)에 따라 ECParameterSpec 결정
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            switch (crv) {
+                case "P-256":
+                    parameters.init(new ECGenParameterSpec("secp256r1"));
+                    break;
+                case "P-384":
+                    parameters.init(new ECGenParameterSpec("secp384r1"));
+                    break;
+                case "P-521":
+                    parameters.init(new ECGenParameterSpec("secp521r1"));
+                    break;
+                default:
+                    throw new RuntimeException("지원하지 않는 EC 곡선: " + crv);
+            }
+            ECParameterSpec ecSpec = parameters.getParameterSpec(ECParameterSpec.class);
+
+            // ECPublicKeySpec을 사용하여 공개 키 생성
+            ECPublicKeySpec pubSpec = new ECPublicKeySpec(ecPoint, ecSpec);
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            return factory.generatePublic(pubSpec);
+
+        } else if ("RSA".equals(kty)) {
+            // RSA 키 처리
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyInfo.get("n")));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyInfo.get("e")));
+            RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            return factory.generatePublic(spec);
+        } else {
+            throw new RuntimeException("지원하지 않는 키 타입: " + kty);
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.server.global.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+
+/**
+ * 외부 API 호출 메트릭(http.client.requests)에 upstream 태그 추가
+ * 기본 태그(client.name)는 호스트라서 같은 호스트의 다른 용도(Supabase 인증/JWKS)를 구분하지 못함
+ */
+public class UpstreamClientObservationConvention extends DefaultClientRequestObservationConvention {
+
+    private final String upstream;
+
+    public UpstreamClientObservationConvention(String upstream) {
+        this.upstream = upstream;
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and("upstream", upstream);
+    }
+}
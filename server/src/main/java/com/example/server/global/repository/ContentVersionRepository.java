@@ -0,0 +1,50 @@
+package com.example.server.global.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * content_versions 갱신/조회 전용 Repository
+ * 버전은 version = version + 1 형태의 원자적 UPDATE로만 올리고, 행이 없는 이름만 0으로 만든 뒤 다시 UPDATE함
+ * (Hibernate native query는 2차 캐시 전체를 비우므로 JDBC로 직접 실행)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentVersionRepository {
+
+    private static final String INCREASE_SQL = "update content_versions set version = version + 1 where name = ?";
+    private static final String INSERT_IF_ABSENT_SQL =
+            "insert into content_versions (name, version) values (?, 0) on conflict do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버전 1 증가 (현재 트랜잭션이 커밋될 때 반영됨)
+     */
+    public void increase(String name) {
+        if (jdbcTemplate.update(INCREASE_SQL, name) == 0) {
+            jdbcTemplate.update(INSERT_IF_ABSENT_SQL, name);
+            jdbcTemplate.update(INCREASE_SQL, name);
+        }
+    }
+
+    /**
+     * 여러 이름의 버전을 한 번에 조회
+     * @return 이름 -> 버전 (행이 없는 이름은 빠짐)
+     */
+    public Map<String, Long> findVersions(List<String> names) {
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("select name, version from content_versions where name in (" + placeholders + ")",
+                resultSet -> {
+                    versions.put(resultSet.getString(1), resultSet.getLong(2));
+                }, names.toArray());
+        return versions;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.server.global.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public class HttpCacheUtil {
+
+    // 브라우저가 저장은 하되 매번 If-None-Match로 재검증하도록 함 (Spring Security 기본값 no-store 대체)
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpCacheUtil() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * If-None-Match가 현재 ETag와 일치하는지 확인
+     * 일치하면 304 상태와 ETag 헤더가 설정되므로 컨트롤러는 본문 없이 null을 반환하면 됨
+     * @param request 현재 요청
+     * @param etag 현재 리소스의 ETag
+     * @return 304로 응답해야 하면 true
+     */
+    public static boolean checkNotModified(ServletWebRequest request, String etag) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
+}
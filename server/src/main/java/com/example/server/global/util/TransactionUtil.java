@@ -0,0 +1,29 @@
+package com.example.server.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업 실행
+     * 트랜잭션 밖에서 호출되면 바로 실행함 (롤백된 변경이 캐시/색인에 반영되는 것을 방지)
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.server.global.warmup;
+
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.dto.PostListResponse;
+import com.example.server.board.service.BoardService;
+import com.example.server.global.datasource.ReplicaRoutingDataSource;
+import com.example.server.global.jwt.JwtUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.security.KeyPair;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 시작 시 워밍업
+ * 배포 직후 첫 요청이 JIT 컴파일 전 코드, 빈 커넥션 풀, Hibernate 쿼리 계획/Jackson serializer 생성 비용을 떠안지 않도록
+ * readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전(ApplicationReadyEvent 리스너 중 마지막)에 주요 읽기 경로를 미리 실행함
+ * - 커넥션 풀: 풀마다 warmup.connections 개를 동시에 열어서 물리 연결(TLS, 인증)을 미리 맺음
+ * - JWT: JWKS를 미리 받아 두고(Supabase TLS 연결 포함), 임시 키로 서명한 토큰을 같은 검증 경로로 검증
+ *   (임시 키는 JWKS 키 캐시에 넣지 않으므로 워밍업 중에도 외부 토큰은 임시 키로 검증되지 않음)
+ * - 게시판 읽기 경로와 응답 DTO 직렬화를 warmup.iterations 회 또는 warmup.budget-ms 가 지날 때까지 반복
+ * 실패한 단계는 로그만 남기고 건너뜀 (워밍업 때문에 기동이 실패하지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String SEARCH_QUERY = "게시판";
+
+    private final BoardService boardService;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final Timer warmupTimer;
+    private final long budgetMillis;
+    private final int iterations;
+    private final int connections;
+
+    public StartupWarmup(BoardService boardService,
+                         JwtUtil jwtUtil,
+                         ObjectMapper objectMapper,
+                         DataSource dataSource,
+                         ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                         MeterRegistry meterRegistry,
+                         @Value("${warmup.budget-ms:15000}") long budgetMillis,
+                         @Value("${warmup.iterations:300}") int iterations,
+                         @Value("${warmup.connections:4}") int connections) {
+        this.boardService = boardService;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.warmupTimer = Timer.builder("startup.warmup").register(meterRegistry);
+        this.budgetMillis = budgetMillis;
+        this.iterations = iterations;
+        this.connections = connections;
+    }
+
+    // 검색 색인/인기 게시글 랭킹 초기화(ApplicationReadyEvent) 이후에 실행
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+
+        int primed = primeConnectionPools();
+        int jwksKeys = prefetchJwks();
+
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        String token = Jwts.builder()
+                .header().keyId("warmup").and()
+                .subject(UUID.randomUUID().toString())
+                .claim("email", "warmup@example.com")
+                .expiration(Date.from(Instant.now().plus(Duration.ofMinutes(10))))
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("board", this::readBoard);
+        steps.put("jwt", () -> jwtUtil.getClaims(token, keyPair.getPublic()));
+
+        int rounds = repeat(steps, iterations, deadline, System::nanoTime);
+
+        long elapsed = System.nanoTime() - startedAt;
+        warmupTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("워밍업 완료: {}ms, 반복 {}/{}회, 커넥션 {}개, JWKS 키 {}개, 실행한 단계 {}",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), rounds, iterations, primed, jwksKeys, steps.keySet());
+    }
+
+    /**
+     * 단계들을 순서대로 반복 실행 (iterations 회 또는 deadline 까지)
+     * 예외가 난 단계는 이후 반복에서 제외
+     * @return 완료한 반복 수
+     */
+    static int repeat(Map<String, Runnable> steps, int iterations, long deadlineNanos, LongSupplier nanoTime) {
+        int rounds = 0;
+        while (rounds < iterations && !steps.isEmpty() && nanoTime.getAsLong() - deadlineNanos < 0) {
+            Iterator<Map.Entry<String, Runnable>> iterator = steps.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Runnable> step = iterator.next();
+                try {
+                    step.getValue().run();
+                } catch (RuntimeException e) {
+                    log.warn("워밍업 단계 제외 ({}): {}", step.getKey(), e.getMessage());
+                    iterator.remove();
+                }
+            }
+            rounds++;
+        }
+        return rounds;
+    }
+
+    /**
+     * 커넥션을 count 개까지 동시에 열었다가 반납해서 풀에 물리 연결을 만들어 둠
+     * @return 연 커넥션 수
+     */
+    static int primeConnections(DataSource dataSource, int count) {
+        List<Connection> opened = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                opened.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 워밍업 실패: {}", e.getMessage());
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // 반납 실패는 풀이 처리함
+                }
+            }
+        }
+        return opened.size();
+    }
+
+    private int primeConnectionPools() {
+        // 복제본을 쓰면 primary와 복제본 풀 각각, 아니면 기본 DataSource 풀
+        ReplicaRoutingDataSource routing = replicaRoutingDataSource.getIfAvailable();
+        List<DataSource> pools = routing != null ? routing.getTargetDataSources() : List.of(dataSource);
+        int primed = 0;
+        for (DataSource pool : pools) {
+            primed += primeConnections(pool, connections);
+        }
+        return primed;
+    }
+
+    private int prefetchJwks() {
+        try {
+            return jwtUtil.prefetchKeys();
+        } catch (RuntimeException e) {
+            log.warn("JWKS 워밍업 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // 조회수를 올리지 않는 읽기 경로만 사용, 결과는 응답과 같은 ObjectMapper로 직렬화
+    private void readBoard() {
+        CursorPageResponse<PostListResponse> latest = boardService.getPostsByCursor(null, PAGE_SIZE);
+        serialize(latest);
+        serialize(boardService.getPosts(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        serialize(boardService.searchPosts(SEARCH_QUERY, 0, PAGE_SIZE));
+        serialize(boardService.getHotPosts(PAGE_SIZE));
+        if (!latest.getContent().isEmpty()) {
+            Long postId = latest.getContent().get(0).getId();
+            serialize(boardService.findPostDetail(postId));
+            serialize(boardService.getComments(postId, null, PAGE_SIZE));
+        }
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
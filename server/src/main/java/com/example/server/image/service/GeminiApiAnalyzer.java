@@ -3,6 +3,7 @@ package com.example.server.image.service;
 import com.example.server.image.dto.AnalysisResultDto;
 import com.example.server.image.dto.gemini.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +18,7 @@ import java.util.List;
 
 @Slf4j
 @Component
+@Observed
 public class GeminiApiAnalyzer implements ImageAnalyzer {
 
     private final WebClient webClient;
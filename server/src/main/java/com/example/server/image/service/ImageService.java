@@ -1,6 +1,7 @@
 package com.example.server.image.service;
 
 import com.example.server.image.dto.AnalysisResultDto;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 
 @Service
+@Observed
 public class ImageService {
 
     private final ImageAnalyzer imageAnalyzer;
@@ -1,9 +1,17 @@
 package com.example.server.user.controller;
 
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.global.util.HttpCacheUtil;
+import com.example.server.user.dto.CommentSummary;
+import com.example.server.user.dto.PostSummary;
 import com.example.server.user.dto.ProfileResponse;
 import com.example.server.user.dto.ProfileUpdateRequest;
+import com.example.server.user.dto.UserStatsResponse;
 import com.example.server.user.service.UserService;
+import com.example.server.user.service.UserStatsService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.UUID;
 
@@ -22,17 +31,78 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final ContentVersions contentVersions;
+    private final UserStatsService userStatsService;
 
     @GetMapping("/me")
-    @Operation(summary = "내 프로필 조회", description = "현재 로그인된 사용자의 프로필 정보를 조회합니다.")
+    @Operation(summary = "내 프로필 조회", description = "현재 로그인된 사용자의 프로필 정보(이메일, 닉네임, 활동 통계)를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "프로필 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
-    public ResponseEntity<ProfileResponse> getMyProfile(@AuthenticationPrincipal UUID userId) {
-        ProfileResponse profileResponse = userService.getProfile(userId);
-        return ResponseEntity.ok(profileResponse);
+    public ResponseEntity<ProfileResponse> getMyProfile(@AuthenticationPrincipal UUID userId,
+                                                        ServletWebRequest webRequest) {
+        // 통계는 메모리 캐시에서 읽으므로 ETag 확인 전에 조회해도 DB를 거치지 않음
+        UserStatsResponse stats = userStatsService.getStats(userId);
+        return contentVersions.conditionalGet(webRequest,
+                () -> contentVersions.getProfileETag(userId, stats.getPostCount(), stats.getCommentCount(), stats.getTotalViews()),
+                etag -> userService.getProfile(userId));
+    }
+
+    @GetMapping("/me/posts")
+    @Operation(summary = "내가 작성한 게시글 조회", description = "현재 로그인된 사용자가 작성한 게시글을 최신순 커서 페이지로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<CursorPageResponse<PostSummary>> getMyPosts(
+            @AuthenticationPrincipal UUID userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest
+    ) {
+        return contentVersions.conditionalGet(webRequest, () -> contentVersions.getUserETag(userId), etag -> userService.getMyPosts(userId, cursor, size));
+    }
+
+    @GetMapping("/me/comments")
+    @Operation(summary = "내가 작성한 댓글 조회", description = "현재 로그인된 사용자가 작성한 댓글을 원글 제목과 함께 최신순 커서 페이지로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<CursorPageResponse<CommentSummary>> getMyComments(
+            @AuthenticationPrincipal UUID userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            ServletWebRequest webRequest
+    ) {
+        return contentVersions.conditionalGet(webRequest, () -> contentVersions.getUserETag(userId), etag -> userService.getMyComments(userId, cursor, size));
+    }
+
+    @GetMapping("/{userId}/stats")
+    @Operation(summary = "사용자 활동 통계 조회", description = "작성자 카드에 표시할 사용자의 게시글 수, 댓글 수, 게시글 조회수 합계를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공 (활동이 없는 사용자는 모두 0)"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<UserStatsResponse> getUserStats(@PathVariable UUID userId, ServletWebRequest webRequest) {
+        UserStatsResponse stats = userStatsService.getStats(userId);
+        String etag = "\"" + stats.getPostCount() + "-" + stats.getCommentCount() + "-" + stats.getTotalViews() + "\"";
+        if (HttpCacheUtil.checkNotModified(webRequest, etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(HttpCacheUtil.REVALIDATE)
+                .eTag(etag)
+                .body(stats);
     }
 
     @PatchMapping("/me")
@@ -1,25 +1,19 @@
 package com.example.server.user.dto;
 
-import com.example.server.board.entity.Comment;
-import lombok.Builder;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.OffsetDateTime;
 
+/**
+ * 내가 작성한 댓글 요약 (JPQL constructor projection, 게시글 제목은 SQL join으로 함께 조회)
+ */
 @Getter
-@Builder
+@AllArgsConstructor
 public class CommentSummary {
+    private Long id;
     private Long postId;
     private String content;
     private String postTitle;
     private OffsetDateTime createdAt;
-
-    public static CommentSummary from(Comment comment) {
-        return CommentSummary.builder()
-                .postId(comment.getPost().getId())
-                .content(comment.getContent())
-                .postTitle(comment.getPost().getTitle())
-                .createdAt(comment.getCreatedAt())
-                .build();
-    }
 }
@@ -1,24 +1,17 @@
 package com.example.server.user.dto;
 
-import com.example.server.board.entity.Post;
-import lombok.Builder;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.OffsetDateTime;
 
+/**
+ * 내가 작성한 게시글 요약 (JPQL constructor projection)
+ */
 @Getter
-@Builder
+@AllArgsConstructor
 public class PostSummary {
     private Long id;
     private String title;
     private OffsetDateTime createdAt;
-
-    public static PostSummary from(Post post) {
-        return PostSummary.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .createdAt(post.getCreatedAt())
-                .build();
-
-    }
 }
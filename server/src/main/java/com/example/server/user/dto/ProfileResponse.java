@@ -4,32 +4,23 @@ import com.example.server.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+/**
+ * 프로필 헤더 (이메일, 닉네임, 활동 통계)
+ * 작성한 게시글/댓글은 /api/users/me/posts, /api/users/me/comments 에서 페이지 단위로 조회함
+ */
 @Getter
 @Builder
 public class ProfileResponse {
 
     private String email;
     private String nickname;
-    private List<PostSummary> posts;
-    private List<CommentSummary> comments;
-
-    public static ProfileResponse from(User user) {
-        List<PostSummary> postSummaries = user.getPosts().stream()
-                .map(PostSummary::from)
-                .collect(Collectors.toList());
-
-        List<CommentSummary> commentSummaries = user.getComments().stream()
-                .map(CommentSummary::from)
-                .collect(Collectors.toList());
+    private UserStatsResponse stats;
 
+    public static ProfileResponse from(User user, UserStatsResponse stats) {
         return ProfileResponse.builder()
                 .email(user.getEmail())
                 .nickname(user.getNickname())
-                .posts(postSummaries)
-                .comments(commentSummaries)
+                .stats(stats)
                 .build();
     }
 }
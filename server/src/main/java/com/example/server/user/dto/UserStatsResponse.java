@@ -0,0 +1,24 @@
+package com.example.server.user.dto;
+
+import com.example.server.user.entity.UserStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 활동 통계 (프로필, 작성자 카드)
+ */
+@Getter
+@AllArgsConstructor
+public class UserStatsResponse {
+
+    public static final UserStatsResponse EMPTY = new UserStatsResponse(0, 0, 0);
+
+    private long postCount;
+    private long commentCount;
+    // 게시글 조회수는 주기적으로 반영되므로 몇 초 늦을 수 있음
+    private long totalViews;
+
+    public static UserStatsResponse from(UserStats stats) {
+        return new UserStatsResponse(stats.getPostCount(), stats.getCommentCount(), stats.getTotalViews());
+    }
+}
@@ -1,22 +1,25 @@
 package com.example.server.user.entity;
 
-import com.example.server.board.entity.Comment;
-import com.example.server.board.entity.Post;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
-import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users", schema = "auth")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @Getter
 public class User {
 
+    public static final String CACHE_REGION = "user";
+
     @Id
     private UUID id;
 
@@ -26,12 +29,6 @@ public class User {
     @Column(name = "raw_user_meta_data")
     private JsonNode rawUserMetaData;
 
-    @OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
-    private List<Post> posts;
-
-    @OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
-    private List<Comment> comments;
-
     public String getNickname() {
         if (this.rawUserMetaData != null && this.rawUserMetaData.has("nickname")) {
             return this.rawUserMetaData.get("nickname").asText();
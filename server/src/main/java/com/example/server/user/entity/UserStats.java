@@ -0,0 +1,33 @@
+package com.example.server.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 활동 통계 (작성한 게시글 수, 댓글 수, 게시글 조회수 합계)
+ * 게시글/댓글 쓰기 트랜잭션 안에서 증분으로 갱신되므로, 조회 시 posts/comments를 집계하지 않음
+ * 갱신은 UserStatsCounterRepository의 원자적 UPDATE로만 하고 엔티티는 읽기 전용으로 사용
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @Column(name = "total_views", nullable = false)
+    private long totalViews;
+}
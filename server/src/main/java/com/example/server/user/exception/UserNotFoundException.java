@@ -1,7 +1,18 @@
 package com.example.server.user.exception;
 
-public class UserNotFoundException extends RuntimeException{
-    public UserNotFoundException(String message) {
-        super(message);
+import com.example.server.global.exception.DomainException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+@Getter
+public class UserNotFoundException extends DomainException {
+
+    private final UUID userId;
+
+    public UserNotFoundException(UUID userId) {
+        super(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        this.userId = userId;
     }
 }
@@ -1,11 +1,45 @@
 package com.example.server.user.repository;
 
+import com.example.server.user.dto.CommentSummary;
+import com.example.server.user.dto.PostSummary;
 import com.example.server.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+
+    // 프로필 활동 내역은 엔티티 컬렉션 대신 (author_id, created_at desc, id desc) 인덱스를 타는 projection으로 한 페이지씩 조회
+    @Query("select new com.example.server.user.dto.PostSummary(p.id, p.title, p.createdAt) " +
+            "from Post p where p.author.id = :userId " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPostSummariesByAuthorId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select new com.example.server.user.dto.PostSummary(p.id, p.title, p.createdAt) " +
+            "from Post p where p.author.id = :userId and (p.createdAt, p.id) < (:createdAt, :id) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummary> findPostSummariesByAuthorIdBefore(@Param("userId") UUID userId,
+                                                        @Param("createdAt") OffsetDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Limit limit);
+
+    @Query("select new com.example.server.user.dto.CommentSummary(c.id, p.id, c.content, p.title, c.createdAt) " +
+            "from Comment c join c.post p where c.author.id = :userId " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentSummary> findCommentSummariesByAuthorId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select new com.example.server.user.dto.CommentSummary(c.id, p.id, c.content, p.title, c.createdAt) " +
+            "from Comment c join c.post p where c.author.id = :userId and (c.createdAt, c.id) < (:createdAt, :id) " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentSummary> findCommentSummariesByAuthorIdBefore(@Param("userId") UUID userId,
+                                                              @Param("createdAt") OffsetDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Limit limit);
 }
@@ -0,0 +1,87 @@
+package com.example.server.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * user_stats 증분 갱신 전용 Repository
+ * 카운터는 항상 col = col + ? 형태의 원자적 UPDATE로만 바꾸고, 행이 없는 사용자만 0으로 만든 뒤 다시 UPDATE함
+ * (Hibernate native query는 2차 캐시 전체를 비우므로 JDBC로 직접 실행)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserStatsCounterRepository {
+
+    private static final String INCREASE_SQL =
+            "update user_stats set post_count = post_count + ?, comment_count = comment_count + ?, " +
+                    "total_views = total_views + ? where user_id = ?";
+    private static final String INSERT_IF_ABSENT_SQL =
+            "insert into user_stats (user_id, post_count, comment_count, total_views) values (?, 0, 0, 0) " +
+                    "on conflict do nothing";
+    // 게시글 작성자 통계에서 게시글 1건과 그 게시글의 누적 조회수를 뺌
+    private static final String REMOVE_POST_SQL =
+            "update user_stats set post_count = post_count - 1, total_views = total_views - ? where user_id = ?";
+    // 게시글에 댓글을 단 사용자마다 그 게시글에 단 댓글 수만큼 뺌
+    private static final String REMOVE_POST_COMMENTS_SQL =
+            "update user_stats s set comment_count = comment_count - " +
+                    "(select count(*) from comments c where c.post_id = ? and c.author_id = s.user_id) " +
+                    "where s.user_id in (select c.author_id from comments c where c.post_id = ?)";
+    private static final String INCREASE_VIEWS_SQL =
+            "update user_stats set total_views = total_views + ? " +
+                    "where user_id = (select p.author_id from posts p where p.id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 한 명의 통계 증감
+     */
+    public void increase(UUID userId, long posts, long comments, long views) {
+        if (jdbcTemplate.update(INCREASE_SQL, posts, comments, views, userId) == 0) {
+            jdbcTemplate.update(INSERT_IF_ABSENT_SQL, userId);
+            jdbcTemplate.update(INCREASE_SQL, posts, comments, views, userId);
+        }
+    }
+
+    /**
+     * 여러 사용자의 통계 증감을 배치로 반영 (대량 가져오기)
+     * @param deltas 사용자 ID -> {게시글 수, 댓글 수, 조회수} 증가분
+     */
+    public void increaseAll(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> insertArgs = new ArrayList<>(deltas.size());
+        List<Object[]> increaseArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, delta) -> {
+            insertArgs.add(new Object[]{userId});
+            increaseArgs.add(new Object[]{delta[0], delta[1], delta[2], userId});
+        });
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, insertArgs);
+        jdbcTemplate.batchUpdate(INCREASE_SQL, increaseArgs);
+    }
+
+    /**
+     * 게시글 삭제 전에 호출해서 작성자와 댓글 작성자들의 통계에서 해당 게시글분을 뺌
+     * @param viewCount 게시글 행을 잠근 상태에서 읽은 누적 조회수
+     */
+    public void removePost(Long postId, UUID authorId, long viewCount) {
+        jdbcTemplate.update(REMOVE_POST_COMMENTS_SQL, postId, postId);
+        jdbcTemplate.update(REMOVE_POST_SQL, viewCount, authorId);
+    }
+
+    /**
+     * 반영된 조회수 증가분을 게시글 작성자의 통계에 더함
+     * @param deltas 게시글 ID -> 증가분
+     */
+    public void increaseViews(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate(INCREASE_VIEWS_SQL, batchArgs);
+    }
+}
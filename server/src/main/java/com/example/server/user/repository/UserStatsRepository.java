@@ -0,0 +1,11 @@
+package com.example.server.user.repository;
+
+import com.example.server.user.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+}
@@ -1,39 +1,94 @@
 package com.example.server.user.service;
 
+import com.example.server.auth.service.AuthorNicknameCache;
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.dto.KeysetCursor;
+import com.example.server.board.service.PostDetailCache;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.user.dto.CommentSummary;
+import com.example.server.user.dto.PostSummary;
 import com.example.server.user.dto.ProfileResponse;
 import com.example.server.user.dto.ProfileUpdateRequest;
 import com.example.server.user.entity.User;
 import com.example.server.user.exception.UserNotFoundException;
 import com.example.server.user.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Observed
 public class UserService {
 
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
+    private final AuthorNicknameCache authorNicknameCache;
+    private final PostDetailCache postDetailCache;
+    private final ContentVersions contentVersions;
+    private final UserStatsService userStatsService;
 
     public ProfileResponse getProfile(UUID userId) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("해당 ID의 사용자를 찾을 수 없습니다: " + userId));
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        return ProfileResponse.from(user, userStatsService.getStats(userId));
+    }
+
+    /**
+     * 내가 작성한 게시글 (최신순, 커서 기반)
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size 페이지 크기 (최대 MAX_ACTIVITY_PAGE_SIZE)
+     */
+    public CursorPageResponse<PostSummary> getMyPosts(UUID userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_ACTIVITY_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        List<PostSummary> posts = keysetCursor == null
+                ? userRepository.findPostSummariesByAuthorId(userId, limit)
+                : userRepository.findPostSummariesByAuthorIdBefore(userId, keysetCursor.getCreatedAt(), keysetCursor.getId(), limit);
+        return CursorPageResponse.of(posts, pageSize, post -> new KeysetCursor(post.getCreatedAt(), post.getId()));
+    }
+
+    /**
+     * 내가 작성한 댓글 (최신순, 커서 기반, 원글 제목 포함)
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 값)
+     * @param size 페이지 크기 (최대 MAX_ACTIVITY_PAGE_SIZE)
+     */
+    public CursorPageResponse<CommentSummary> getMyComments(UUID userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_ACTIVITY_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
 
-        return ProfileResponse.from(user);
+        List<CommentSummary> comments = keysetCursor == null
+                ? userRepository.findCommentSummariesByAuthorId(userId, limit)
+                : userRepository.findCommentSummariesByAuthorIdBefore(userId, keysetCursor.getCreatedAt(), keysetCursor.getId(), limit);
+        return CursorPageResponse.of(comments, pageSize, comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
     }
 
     @Transactional
     public void updateProfile(UUID userId, ProfileUpdateRequest request) {
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("해당 ID의 사용자를 찾을 수 없습니다: " + userId));
+                .orElseThrow(() -> new UserNotFoundException(userId));
 
         if (request.getNickname().equals(user.getNickname())) {
             return;
         }
 
         user.updateNickname(request.getNickname());
+        authorNicknameCache.evict(userId);
+        // 캐시된 게시글 상세 응답에 이전 닉네임이 들어있을 수 있으므로 전체 무효화
+        postDetailCache.evictAll();
+        contentVersions.globalChanged();
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.example.server.user.service;
+
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.user.dto.UserStatsResponse;
+import com.example.server.user.repository.UserStatsCounterRepository;
+import com.example.server.user.repository.UserStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 활동 통계 (user_stats) 갱신과 조회
+ * 게시판 쓰기 트랜잭션 안에서 카운터를 증감하고, 조회는 최대 크기가 정해진 메모리 캐시에서 O(1)로 처리함
+ * 게시글/댓글 수는 변경 시 캐시에서 바로 제거하고, 주기적으로 반영되는 조회수 합계는 TTL만큼 늦게 보일 수 있음
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsCounterRepository userStatsCounterRepository;
+    private final ReplicaConsistency replicaConsistency;
+    private final long ttlNanos;
+    private final Map<UUID, CachedStats> cache;
+
+    public UserStatsService(UserStatsRepository userStatsRepository,
+                            UserStatsCounterRepository userStatsCounterRepository,
+                            ReplicaConsistency replicaConsistency,
+                            @Value("${user.stats-cache.max-size:10000}") int maxSize,
+                            @Value("${user.stats-cache.ttl-ms:30000}") long ttlMillis) {
+        this.userStatsRepository = userStatsRepository;
+        this.userStatsCounterRepository = userStatsCounterRepository;
+        this.replicaConsistency = replicaConsistency;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        // access-order LinkedHashMap으로 최대 크기를 넘으면 가장 오래 안 쓰인 항목부터 제거 (LRU)
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedStats> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 사용자 활동 통계 조회 (통계 행이 없으면 모두 0)
+     * @param userId 사용자 ID
+     */
+    public UserStatsResponse getStats(UUID userId) {
+        long now = System.nanoTime();
+        synchronized (cache) {
+            CachedStats cached = cache.get(userId);
+            if (cached != null && now - cached.loadedAt < ttlNanos) {
+                return cached.stats;
+            }
+        }
+
+        UserStatsResponse stats = userStatsRepository.findById(userId)
+                .map(UserStatsResponse::from)
+                .orElse(UserStatsResponse.EMPTY);
+        synchronized (cache) {
+            cache.put(userId, new CachedStats(stats, now));
+        }
+        return stats;
+    }
+
+    @Transactional
+    public void postCreated(UUID authorId) {
+        userStatsCounterRepository.increase(authorId, 1, 0, 0);
+        evict(authorId);
+    }
+
+    /**
+     * 게시글 삭제 (게시글 행을 잠근 뒤, 게시글/댓글을 지우기 전에 호출)
+     * 댓글 작성자들의 통계도 함께 바뀌므로 캐시 전체를 비움
+     */
+    @Transactional
+    public void postDeleted(Long postId, UUID authorId, long viewCount) {
+        userStatsCounterRepository.removePost(postId, authorId, viewCount);
+        evictAll();
+    }
+
+    @Transactional
+    public void commentCreated(UUID authorId) {
+        userStatsCounterRepository.increase(authorId, 0, 1, 0);
+        evict(authorId);
+    }
+
+    @Transactional
+    public void commentDeleted(UUID authorId) {
+        userStatsCounterRepository.increase(authorId, 0, -1, 0);
+        evict(authorId);
+    }
+
+    /**
+     * 대량 가져오기로 추가된 게시글/댓글 반영
+     * @param deltas 사용자 ID -> {게시글 수, 댓글 수, 조회수} 증가분
+     */
+    @Transactional
+    public void imported(Map<UUID, long[]> deltas) {
+        userStatsCounterRepository.increaseAll(deltas);
+        evictAll();
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 작성자 통계에 더함 (캐시는 TTL이 지나면 갱신됨)
+     * @param deltas 게시글 ID -> 증가분
+     */
+    @Transactional
+    public void viewsFlushed(Map<Long, Long> deltas) {
+        userStatsCounterRepository.increaseViews(deltas);
+    }
+
+    // 커밋 전 이전 값이 다시 캐싱되지 않도록 커밋 이후에 한 번 더 제거
+    private void evict(UUID userId) {
+        Runnable action = () -> {
+            synchronized (cache) {
+                cache.remove(userId);
+            }
+        };
+        action.run();
+        replicaConsistency.runAfterCommit(action);
+    }
+
+    private void evictAll() {
+        Runnable action = () -> {
+            synchronized (cache) {
+                cache.clear();
+            }
+        };
+        action.run();
+        replicaConsistency.runAfterCommit(action);
+    }
+
+    private static class CachedStats {
+        private final UserStatsResponse stats;
+        private final long loadedAt;
+
+        CachedStats(UserStatsResponse stats, long loadedAt) {
+            this.stats = stats;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.server.auth.service;
+
+import com.example.server.auth.dto.AuthorSummary;
+import com.example.server.auth.repository.AuthUserRepository;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BoardJpaTest
+class AuthorNicknameCacheTest {
+
+    @Autowired
+    private AuthorNicknameCache authorNicknameCache;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 캐시에_없는_작성자만_한_번의_쿼리로_조회한다() {
+        UUID first = fixtures.createUser("first").getId();
+        UUID second = fixtures.createUser("second").getId();
+        UUID unknown = UUID.randomUUID();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        Map<UUID, String> nicknames = authorNicknameCache.getNicknames(List.of(first, second, unknown));
+        long missQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Map<UUID, String> cached = authorNicknameCache.getNicknames(List.of(first, second, unknown));
+
+        assertThat(nicknames).containsEntry(first, "first")
+                .containsEntry(second, "second")
+                .containsEntry(unknown, AuthorNicknameCache.DEFAULT_NICKNAME);
+        assertThat(cached).isEqualTo(nicknames);
+        assertThat(missQueries).isEqualTo(1);
+        // 없는 사용자도 기본값으로 캐싱되어 다시 조회하지 않음
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        // auth.users 엔티티(JSON 메타데이터)는 로딩하지 않음
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void 닉네임을_바꾸면_evict_후_새_닉네임을_읽는다() {
+        UUID userId = fixtures.createUser("before").getId();
+        entityManager.flush();
+        assertThat(authorNicknameCache.getNickname(userId)).isEqualTo("before");
+
+        entityManager.createNativeQuery("update auth.users set raw_user_meta_data = ?1 format json where id = ?2")
+                .setParameter(1, "{\"nickname\":\"after\"}")
+                .setParameter(2, userId)
+                .executeUpdate();
+        assertThat(authorNicknameCache.getNickname(userId)).isEqualTo("before");
+
+        authorNicknameCache.evict(userId);
+
+        assertThat(authorNicknameCache.getNickname(userId)).isEqualTo("after");
+    }
+
+    @Test
+    void 조회_중에_evict_되면_읽어_온_이전_닉네임을_캐시에_남기지_않는다() {
+        UUID userId = UUID.randomUUID();
+        AtomicInteger queries = new AtomicInteger();
+        AuthorNicknameCache[] holder = new AuthorNicknameCache[1];
+        // 복제본에서 이전 닉네임을 읽는 사이에 닉네임 변경(evict)이 커밋된 상황
+        AuthorNicknameCache cache = new AuthorNicknameCache(repository(ids -> {
+            if (queries.incrementAndGet() == 1) {
+                holder[0].evict(userId);
+            }
+        }, userId, "before"), ReplicaConsistency.disabled(), entityManagerFactory, 100, 300);
+        holder[0] = cache;
+
+        assertThat(cache.getNickname(userId)).isEqualTo("before");
+        cache.getNickname(userId);
+
+        // 이전 값이 캐싱되지 않아서 다시 조회함
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void TTL이_지난_닉네임은_다시_조회한다() {
+        UUID userId = UUID.randomUUID();
+        AtomicInteger queries = new AtomicInteger();
+        AuthorNicknameCache cache = new AuthorNicknameCache(repository(ids -> queries.incrementAndGet(), userId, "nickname"),
+                ReplicaConsistency.disabled(), entityManagerFactory, 100, 0);
+
+        cache.getNickname(userId);
+        cache.getNickname(userId);
+
+        assertThat(queries).hasValue(2);
+    }
+
+    // findAuthorSummariesByIdIn만 구현한 AuthUserRepository (조회할 때마다 onQuery 실행)
+    private static AuthUserRepository repository(Consumer<Object> onQuery, UUID userId, String nickname) {
+        AuthorSummary summary = new AuthorSummary() {
+            @Override
+            public UUID getId() {
+                return userId;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+        return (AuthUserRepository) Proxy.newProxyInstance(AuthUserRepository.class.getClassLoader(),
+                new Class<?>[]{AuthUserRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findAuthorSummariesByIdIn")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    onQuery.accept(args[0]);
+                    return List.of(summary);
+                });
+    }
+}
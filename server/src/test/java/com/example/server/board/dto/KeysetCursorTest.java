@@ -0,0 +1,40 @@
+package com.example.server.board.dto;
+
+import com.example.server.board.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        KeysetCursor cursor = new KeysetCursor(OffsetDateTime.parse("2024-03-01T12:30:45.123456+09:00"), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지로_본다() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_400_예외로_거절한다() {
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2024-03-01T00:00Z".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-03-01T00:00Z|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%")).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(noDelimiter)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(badId)).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.server.board.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardEventBusTest {
+
+    @Test
+    void 이벤트를_버리면_자리가_난_뒤_구독자에게_순서대로_resync를_요청한다() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoardEventBus eventBus = new BoardEventBus(List.of(subscriber), meterRegistry, ObservationRegistry.NOOP, 4, 8, 0);
+
+        eventBus.publish(BoardEvent.postDeleted(1L));
+        assertThat(subscriber.started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 처리 중인 1번을 포함해서 한 바퀴(4개)까지만 들어가고 5번은 버려짐
+        for (long postId = 2; postId <= 5; postId++) {
+            eventBus.publish(BoardEvent.postDeleted(postId));
+        }
+        // 버퍼가 아직 가득 차 있으면 표식을 넣지 못하고 다음 주기로 미룸
+        eventBus.requestResyncIfDropped();
+        assertThat(meterRegistry.get("board.event-bus.resyncs").functionCounter().count()).isZero();
+
+        subscriber.release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.received.size() < 4 && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        eventBus.requestResyncIfDropped();
+        eventBus.publish(BoardEvent.postDeleted(6L));
+        // 버린 이벤트가 더 없으면 다시 요청하지 않음
+        eventBus.requestResyncIfDropped();
+        eventBus.shutdown();
+
+        assertThat(subscriber.received).containsExactly("1", "2", "3", "4", "resync", "6");
+        assertThat(meterRegistry.get("board.event-bus.resyncs").functionCounter().count()).isEqualTo(1);
+    }
+
+    private static class RecordingSubscriber implements BoardEventSubscriber {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onEvents(List<BoardEvent> events) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.forEach(event -> received.add(event.getPostId().toString()));
+        }
+
+        @Override
+        public void resync() {
+            received.add("resync");
+        }
+    }
+}
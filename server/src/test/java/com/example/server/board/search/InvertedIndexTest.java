@@ -0,0 +1,106 @@
+package com.example.server.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void 제목에_검색어가_있는_게시글이_먼저_나온다() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "오늘 점심 메뉴", "학식 먹었어요");
+        index.index(2L, "학식 후기", "오늘 점심은 별로");
+        index.index(3L, "시험 공부", "도서관 자리 없음");
+
+        SearchResult result = index.search("학식", 0, 10);
+
+        assertThat(result.getTotalHits()).isEqualTo(2);
+        assertThat(result.getPostIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 모든_검색어_토큰을_포함해야_검색된다() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "오픈소스 과제", "깃허브 PR 올림");
+        index.index(2L, "오픈소스 발표", "발표 자료 공유");
+
+        assertThat(index.search("오픈소스 과제", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.search("없는단어", 0, 10).getTotalHits()).isZero();
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_반영된다() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "중고 책 팝니다", "자료구조 교재");
+        index.index(2L, "중고 책 삽니다", "운영체제 교재");
+
+        index.index(1L, "판매 완료", "감사합니다");
+        index.remove(2L);
+
+        assertThat(index.search("중고", 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("판매", 0, 10).getPostIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 오프셋과_개수로_결과를_나눠서_가져온다() {
+        InvertedIndex index = new InvertedIndex();
+        for (long postId = 1; postId <= 5; postId++) {
+            index.index(postId, "공지 " + postId, "내용");
+        }
+
+        SearchResult page = index.search("공지", 2, 2);
+
+        assertThat(page.getTotalHits()).isEqualTo(5);
+        // 점수가 같으면 최신 게시글부터
+        assertThat(page.getPostIds()).isEqualTo(List.of(3L, 2L));
+    }
+
+    @Test
+    void 결과_수를_넘는_큰_오프셋은_빈_결과를_반환한다() {
+        InvertedIndex index = new InvertedIndex();
+        index.index(1L, "공지", "내용");
+
+        SearchResult page = index.search("공지", Integer.MAX_VALUE - 10, 50);
+
+        assertThat(page.getTotalHits()).isEqualTo(1);
+        assertThat(page.getPostIds()).isEmpty();
+    }
+
+    @Test
+    void 초기_색인_중_삭제된_게시글은_스냅샷으로_다시_색인하지_않는다() {
+        InvertedIndex index = new InvertedIndex();
+        index.startBuild();
+
+        // 스냅샷을 읽은 뒤 삭제 이벤트가 먼저 처리된 경우
+        index.remove(1L);
+        index.indexIfAbsent(1L, "삭제된 게시글", "내용");
+        index.indexIfAbsent(2L, "남은 게시글", "내용");
+        index.finishBuild();
+
+        assertThat(index.search("게시글", 0, 10).getPostIds()).containsExactly(2L);
+    }
+
+    @Test
+    void 수정이_반복되어도_tombstone이_정리되고_순서는_유지된다() {
+        InvertedIndex index = new InvertedIndex();
+        for (long postId = 1; postId <= 10; postId++) {
+            index.index(postId, "게시글 " + postId, "공통 본문");
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            index.index(3L, "자주 수정되는 게시글", "수정 " + i);
+        }
+
+        // 살아있는 문서 10개 + 정리 기준(1000) 이하의 tombstone만 남음
+        assertThat(index.getDocIdCount()).isLessThanOrEqualTo(10 + 1001);
+        assertThat(index.size()).isEqualTo(10);
+        // 문서 번호를 다시 매긴 뒤에도 동점이면 나중에 색인된 문서가 먼저
+        assertThat(index.search("공통", 0, 10).getPostIds()).containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L, 2L, 1L);
+        assertThat(index.search("자주 수정", 0, 10).getPostIds()).containsExactly(3L);
+        assertThat(index.search("수정 4999", 0, 10).getPostIds()).containsExactly(3L);
+    }
+}
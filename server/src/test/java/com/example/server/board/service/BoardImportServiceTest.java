@@ -0,0 +1,158 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.ImportResultResponse;
+import com.example.server.board.entity.Post;
+import com.example.server.board.exception.BoardImportException;
+import com.example.server.board.repository.CommentRepository;
+import com.example.server.board.repository.PostRepository;
+import com.example.server.support.BoardTestConfiguration;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board-import;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:h2-init.sql",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "board.import.batch-size=50",
+        "board.import.chunk-size=100"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BoardTestConfiguration.class, BoardImportService.class})
+// chunk 단위 커밋을 확인하기 위해 테스트 트랜잭션을 사용하지 않음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardImportServiceTest {
+
+    @Autowired
+    private BoardImportService boardImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BoardSearchService boardSearchService;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private UUID authorId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.deleteAllInBatch();
+            postRepository.deleteAllInBatch();
+            authorId = UUID.randomUUID();
+            entityManager.createNativeQuery("insert into auth.users (id, raw_user_meta_data) values (?1, ?2 format json)")
+                    .setParameter(1, authorId)
+                    .setParameter(2, "{\"nickname\":\"importer\"}")
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    void importPosts_insertsPostsAndCommentsInBatches() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            ndjson.append(postLine("imported " + i, 2)).append('\n');
+        }
+
+        statistics.clear();
+        ImportResultResponse result = boardImportService.importPosts(stream(ndjson.toString()));
+
+        assertThat(result.getImportedPosts()).isEqualTo(250);
+        assertThat(result.getImportedComments()).isEqualTo(500);
+        assertThat(postRepository.count()).isEqualTo(250);
+        assertThat(commentRepository.count()).isEqualTo(500);
+        // 750행을 행마다 INSERT 하지 않고 배치로 묶어서 실행
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        assertThat(postRepository.findAll()).allSatisfy(post -> assertThat(post.getCommentCount()).isEqualTo(2));
+    }
+
+    @Test
+    void importPosts_keepsCommittedChunks_whenLineIsInvalid() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            ndjson.append(postLine("ok " + i, 0)).append('\n');
+        }
+        ndjson.append("{\"title\":\"\",\"content\":\"제목 없음\",\"authorId\":\"").append(authorId).append("\"}\n");
+
+        assertThatThrownBy(() -> boardImportService.importPosts(stream(ndjson.toString())))
+                .isInstanceOf(BoardImportException.class)
+                .hasMessageContaining("line 121");
+        // 첫 chunk(100건)는 커밋되고 실패한 chunk는 롤백됨
+        assertThat(postRepository.count()).isEqualTo(100);
+    }
+
+    @Test
+    void importPosts_keepsCreatedAtAndPublishesToSubscribers() throws InterruptedException {
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        String line = postLine("가져온게시글", 2).replace("\"viewCount\":3", "\"viewCount\":3,\"createdAt\":\"" + createdAt + "\"");
+
+        boardImportService.importPosts(stream(line + "\n"));
+
+        Post post = postRepository.findAll().get(0);
+        assertThat(post.getCreatedAt()).isAtSameInstantAs(createdAt);
+        assertThat(post.getUpdatedAt()).isAtSameInstantAs(createdAt);
+        // 이벤트 버스 구독자는 비동기로 처리하므로 반영될 때까지 기다림
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((boardSearchService.search("가져온게시글", 0, 10).getTotalHits() == 0 || hotPostRanking.getScore(post.getId()) == 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(boardSearchService.search("가져온게시글", 0, 10).getPostIds()).containsExactly(post.getId());
+        assertThat(hotPostRanking.getScore(post.getId())).isPositive();
+    }
+
+    private String postLine(String title, int commentCount) {
+        StringBuilder comments = new StringBuilder();
+        for (int i = 0; i < commentCount; i++) {
+            if (i > 0) {
+                comments.append(',');
+            }
+            comments.append("{\"content\":\"댓글 ").append(i).append("\",\"authorId\":\"").append(authorId).append("\"}");
+        }
+        return "{\"title\":\"" + title + "\",\"content\":\"본문\",\"authorId\":\"" + authorId
+                + "\",\"viewCount\":3,\"comments\":[" + comments + "]}";
+    }
+
+    private ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
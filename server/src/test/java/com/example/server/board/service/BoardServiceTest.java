@@ -0,0 +1,245 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.CommentResponse;
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.dto.PostListResponse;
+import com.example.server.board.dto.PostResponse;
+import com.example.server.board.dto.PostUpdateRequest;
+import com.example.server.board.entity.Post;
+import com.example.server.board.event.BoardEvent;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import com.example.server.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.server.support.BoardFixtures.runAs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BoardJpaTest
+class BoardServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private BoardSearchService boardSearchService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findPostDetail_usesFixedNumberOfQueries_regardlessOfCommentCount() {
+        Long smallPostId = fixtures.createPostWithComments("small", 1);
+        Long largePostId = fixtures.createPostWithComments("large", 30);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        PostResponse small = boardService.findPostDetail(smallPostId);
+        long smallQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        PostResponse large = boardService.findPostDetail(largePostId);
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        assertThat(small.getComments()).hasSize(1);
+        assertThat(small.getCommentsNextCursor()).isNull();
+        // 상세 조회는 첫 댓글 페이지만 포함
+        assertThat(large.getComments()).hasSize(20);
+        assertThat(large.getCommentsNextCursor()).isNotNull();
+        assertThat(large.getAuthorNickname()).isEqualTo("large-writer");
+        assertThat(large.getComments().get(19).getAuthorNickname()).isEqualTo("large-commenter-19");
+
+        // 게시글 1 + 댓글 1 + 작성자 닉네임 1
+        assertThat(smallQueries).isEqualTo(3);
+        assertThat(largeQueries).isEqualTo(3);
+    }
+
+    @Test
+    void getComments_walksAllCommentsWithKeysetCursor() {
+        Long postId = fixtures.createPostWithComments("paged", 25);
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorPageResponse<CommentResponse> first = boardService.getComments(postId, null, 10);
+        CursorPageResponse<CommentResponse> second = boardService.getComments(postId, first.getNextCursor(), 10);
+        CursorPageResponse<CommentResponse> last = boardService.getComments(postId, second.getNextCursor(), 10);
+
+        assertThat(first.getContent()).extracting(CommentResponse::getContent).startsWith("paged comment 0");
+        assertThat(second.getContent()).extracting(CommentResponse::getContent).startsWith("paged comment 10");
+        assertThat(last.getContent()).hasSize(5);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getComments_breaksCreatedAtTiesById() {
+        Long postId = fixtures.createPostWithComments("tied", 5);
+        entityManager.flush();
+        // 같은 시각에 작성된 댓글도 id 순으로 빠짐없이, 중복 없이 이어져야 함
+        entityManager.createNativeQuery("update comments set created_at = ?1 where post_id = ?2")
+                .setParameter(1, OffsetDateTime.parse("2024-01-01T00:00:00Z"))
+                .setParameter(2, postId)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<String> contents = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<CommentResponse> page = boardService.getComments(postId, cursor, 2);
+            page.getContent().forEach(comment -> contents.add(comment.getContent()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(contents).containsExactly("tied comment 0", "tied comment 1", "tied comment 2",
+                "tied comment 3", "tied comment 4");
+    }
+
+    @Test
+    void getPostsByCursor_walksPostsNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            fixtures.createPostWithComments("list" + i, 0);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        CursorPageResponse<PostListResponse> first = boardService.getPostsByCursor(null, 3);
+        CursorPageResponse<PostListResponse> second = boardService.getPostsByCursor(first.getNextCursor(), 3);
+
+        assertThat(first.getContent()).extracting(PostListResponse::getTitle)
+                .containsExactly("list4 title", "list3 title", "list2 title");
+        assertThat(second.getContent()).extracting(PostListResponse::getTitle)
+                .containsExactly("list1 title", "list0 title");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void getPostsByCursor_breaksCreatedAtTiesById() {
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            postIds.add(fixtures.createPostWithComments("same-time" + i, 0));
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("update posts set created_at = ?1 where id in (?2)")
+                .setParameter(1, OffsetDateTime.parse("2024-01-01T00:00:00Z"))
+                .setParameter(2, postIds)
+                .executeUpdate();
+        // 같은 시각의 게시글보다 최신인 게시글이 첫 페이지 맨 앞에 와야 함
+        Long newestId = fixtures.createPostWithComments("newest", 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<PostListResponse> page = boardService.getPostsByCursor(cursor, 2);
+            page.getContent().forEach(post -> walked.add(post.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // 다른 테스트가 만든 게시글은 무시하고, 같은 시각의 게시글은 id 내림차순으로 빠짐없이 한 번씩
+        assertThat(walked).doesNotHaveDuplicates();
+        assertThat(walked.get(0)).isEqualTo(newestId);
+        List<Long> expected = new ArrayList<>(postIds);
+        Collections.reverse(expected);
+        assertThat(walked.stream().filter(postIds::contains).toList()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void updatePost_keepsCountersIncrementedAfterLoad() {
+        Long postId = fixtures.createPostWithComments("counted", 0);
+        UUID authorId = entityManager.find(Post.class, postId).getAuthor().getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        // 수정 트랜잭션이 게시글을 읽은 뒤, 커밋 전에 조회수 flush와 댓글 작성이 카운터를 올린 상황
+        entityManager.find(Post.class, postId);
+        entityManager.createNativeQuery("update posts set view_count = view_count + 7, comment_count = comment_count + 2 where id = ?1")
+                .setParameter(1, postId)
+                .executeUpdate();
+
+        PostUpdateRequest request = new PostUpdateRequest();
+        request.setTitle("edited title");
+        request.setContent("edited content");
+        runAs(authorId, () -> boardService.updatePost(postId, request));
+        entityManager.flush();
+
+        Object[] row = (Object[]) entityManager.createNativeQuery("select title, view_count, comment_count from posts where id = ?1")
+                .setParameter(1, postId)
+                .getSingleResult();
+        assertThat(row[0]).isEqualTo("edited title");
+        assertThat(((Number) row[1]).intValue()).isEqualTo(7);
+        assertThat(((Number) row[2]).intValue()).isEqualTo(2);
+    }
+
+    @Test
+    void deletePost_deletesCommentsWithoutLoadingThem() {
+        Long postId = fixtures.createPostWithComments("deleted", 50);
+        Long keptPostId = fixtures.createPostWithComments("kept", 2);
+        UUID authorId = entityManager.find(Post.class, postId).getAuthor().getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        statementCounter.clear();
+        runAs(authorId, () -> {
+            boardService.deletePost(postId);
+            entityManager.flush();
+            return null;
+        });
+
+        // 게시글 행 잠금 조회 1 + 작성자/댓글 작성자 통계 UPDATE 2 + 댓글 DELETE 1 + 게시글 DELETE 1,
+        // 댓글 수와 무관하고 댓글 엔티티는 로딩하지 않음 (전체 ETag 버전은 커밋 후 별도 트랜잭션에서 올림)
+        assertThat(statementCounter.getCount()).isEqualTo(5);
+        // 조회수 반영과 같은 순서로 posts 행을 user_stats보다 먼저 잠금
+        assertThat(statementCounter.getStatements().get(0)).containsIgnoringCase("from posts").containsIgnoringCase("for update");
+        assertThat(statementCounter.getStatements().get(1)).containsIgnoringCase("update user_stats");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityManager.find(Post.class, postId)).isNull();
+        assertThat(entityManager.createQuery("select count(c) from Comment c where c.post.id = :postId", Long.class)
+                .setParameter("postId", postId).getSingleResult()).isZero();
+        assertThat(entityManager.createQuery("select count(c) from Comment c where c.post.id = :postId", Long.class)
+                .setParameter("postId", keptPostId).getSingleResult()).isEqualTo(2);
+    }
+
+    @Test
+    void searchPosts_returnsEmptyPage_whenPageIsBeyondIntOffset() {
+        Long postId = fixtures.createPostWithComments("overflow", 0);
+        boardSearchService.onEvents(List.of(BoardEvent.postCreated(postId, "overflow title", "overflow content")));
+
+        // 50000000 * 50 은 int 범위를 넘는 offset
+        Page<PostListResponse> page = boardService.searchPosts("overflow", 50_000_000, 50);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isPositive();
+    }
+}
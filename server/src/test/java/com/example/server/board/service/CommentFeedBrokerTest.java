@@ -0,0 +1,105 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.CommentFeedEvent;
+import com.example.server.board.exception.CommentFeedUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentFeedBrokerTest {
+
+    private final ManualExecutor dispatcher = new ManualExecutor();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void 버퍼를_비우는_구독자는_계속_이벤트를_받는다() {
+        CommentFeedBroker broker = new CommentFeedBroker(dispatcher, objectMapper, 2, 60_000, 100);
+        broker.subscribe(1L);
+
+        for (long commentId = 1; commentId <= 10; commentId++) {
+            broker.publish(CommentFeedEvent.deleted(1L, commentId));
+            dispatcher.runAll();
+        }
+
+        assertThat(broker.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 버퍼가_가득_찬_느린_구독자는_연결을_끊는다() {
+        CommentFeedBroker broker = new CommentFeedBroker(dispatcher, objectMapper, 2, 60_000, 100);
+        broker.subscribe(1L);
+        broker.subscribe(2L);
+
+        // connected 이벤트 + 1건으로 버퍼가 가득 찬 뒤 한 건 더
+        broker.publish(CommentFeedEvent.deleted(1L, 1L));
+        broker.publish(CommentFeedEvent.deleted(1L, 2L));
+
+        // 발행한 스레드는 구독자 목록에서만 빼고, 연결 종료는 dispatcher가 처리
+        assertThat(broker.getSubscriberCount(1L)).isZero();
+        assertThat(dispatcher.pending()).isPositive();
+        dispatcher.runAll();
+        assertThat(broker.getSubscriberCount(1L)).isZero();
+        // 다른 게시글 구독자는 영향 없음
+        assertThat(broker.getSubscriberCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_구독자_수를_넘으면_구독할_수_없다() {
+        CommentFeedBroker broker = new CommentFeedBroker(dispatcher, objectMapper, 2, 60_000, 1);
+        broker.subscribe(1L);
+
+        assertThatThrownBy(() -> broker.subscribe(1L)).isInstanceOf(CommentFeedUnavailableException.class);
+    }
+
+    // 테스트에서 dispatcher 실행 시점을 직접 제어하기 위한 executor
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.server.board.service;
+
+import com.example.server.board.event.BoardEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HotPostRankingTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void 댓글은_조회보다_높은_가중치를_받는다() {
+        HotPostRanking ranking = new HotPostRanking(null, clock, 60, 100);
+
+        for (int i = 0; i < 3; i++) {
+            ranking.recordView(1L);
+        }
+        ranking.recordComment(2L);
+        ranking.recordView(3L);
+
+        assertThat(ranking.getTopPostIds(10)).containsExactly(2L, 1L, 3L);
+        assertThat(ranking.getScore(1L)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void 오래된_점수는_반감기마다_절반으로_줄어든다() {
+        HotPostRanking ranking = new HotPostRanking(null, clock, 60, 100);
+        for (int i = 0; i < 8; i++) {
+            ranking.recordView(1L);
+        }
+
+        clock.advance(Duration.ofMinutes(120));
+        for (int i = 0; i < 3; i++) {
+            ranking.recordView(2L);
+        }
+
+        // 8 -> 2시간(반감기 2번) 후 2, 방금 조회된 게시글은 3
+        assertThat(ranking.getScore(1L)).isCloseTo(2.0, within(1e-9));
+        assertThat(ranking.getTopPostIds(10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 삭제된_게시글과_점수가_거의_없는_게시글은_랭킹에서_빠진다() {
+        HotPostRanking ranking = new HotPostRanking(null, clock, 60, 100);
+        ranking.recordView(1L);
+        ranking.recordView(2L);
+        ranking.recordView(3L);
+
+        ranking.remove(2L);
+        clock.advance(Duration.ofMinutes(600));
+        ranking.recordView(3L);
+        ranking.prune();
+
+        assertThat(ranking.getTopPostIds(10)).containsExactly(3L);
+        assertThat(ranking.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제_이벤트보다_늦게_도착한_조회는_게시글을_다시_넣지_않는다() {
+        HotPostRanking ranking = new HotPostRanking(null, clock, 60, 100);
+        ranking.recordView(1L);
+
+        ranking.onEvents(List.of(BoardEvent.postDeleted(1L)));
+        ranking.recordView(1L);
+        ranking.recordView(2L);
+
+        assertThat(ranking.getTopPostIds(10)).containsExactly(2L);
+
+        // 삭제 기록은 보관 시간이 지나면 정리됨
+        clock.advance(Duration.ofMinutes(11));
+        ranking.prune();
+        ranking.recordView(1L);
+        assertThat(ranking.getScore(1L)).isPositive();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_낮은_점수부터_정리한다() {
+        HotPostRanking ranking = new HotPostRanking(null, clock, 60, 2);
+        for (long postId = 1; postId <= 4; postId++) {
+            for (int i = 0; i < postId; i++) {
+                ranking.recordView(postId);
+            }
+        }
+
+        ranking.prune();
+
+        assertThat(ranking.getTopPostIds(10)).containsExactly(4L, 3L);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
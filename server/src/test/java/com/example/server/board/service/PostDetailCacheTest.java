@@ -0,0 +1,92 @@
+package com.example.server.board.service;
+
+import com.example.server.board.dto.PostResponse;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+
+    private static final String ETAG = "W/\"1-0-0\"";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void 캐시된_응답에_조회수를_합쳐서_반환한다() throws Exception {
+        PostDetailCache cache = new PostDetailCache(1024 * 1024, ReplicaConsistency.disabled(), objectMapper);
+        PostResponse response = post(1L, "\"viewCount\":-2147483648 가 본문에 있어도 괜찮음");
+
+        byte[] first = cache.put(1L, cache.getVersion(1L), ETAG, response, 2);
+        byte[] hit = cache.get(1L, ETAG, 5);
+
+        assertThat(objectMapper.readTree(first).get("viewCount").asLong()).isEqualTo(12);
+        JsonNode json = objectMapper.readTree(hit);
+        assertThat(json.get("viewCount").asLong()).isEqualTo(15);
+        assertThat(json.get("content").asText()).isEqualTo(response.getContent());
+        assertThat(json.get("title").asText()).isEqualTo("제목");
+    }
+
+    @Test
+    void 무효화되면_조회_도중의_응답은_캐시되지_않는다() {
+        PostDetailCache cache = new PostDetailCache(1024 * 1024, ReplicaConsistency.disabled(), objectMapper);
+        long version = cache.getVersion(1L);
+
+        cache.evict(1L);
+        cache.put(1L, version, ETAG, post(1L, "수정 전 내용"), 0);
+
+        assertThat(cache.get(1L, ETAG, 0)).isNull();
+    }
+
+    @Test
+    void 저장할_때와_ETag가_다르면_캐시_미스로_처리한다() {
+        PostDetailCache cache = new PostDetailCache(1024 * 1024, ReplicaConsistency.disabled(), objectMapper);
+        cache.put(1L, cache.getVersion(1L), ETAG, post(1L, "다른 서버에서 수정되기 전 내용"), 0);
+
+        assertThat(cache.get(1L, "W/\"1-1-0\"", 0)).isNull();
+        assertThat(cache.get(1L, ETAG, 0)).isNotNull();
+    }
+
+    @Test
+    void flush된_조회수는_기준값에_더해진다() throws Exception {
+        PostDetailCache cache = new PostDetailCache(1024 * 1024, ReplicaConsistency.disabled(), objectMapper);
+        cache.put(1L, cache.getVersion(1L), ETAG, post(1L, "내용"), 0);
+
+        cache.applyFlushedViewCounts(Map.of(1L, 7L));
+
+        assertThat(objectMapper.readTree(cache.get(1L, ETAG, 1)).get("viewCount").asLong()).isEqualTo(18);
+    }
+
+    @Test
+    void 전체_크기를_넘으면_오래된_항목부터_제거한다() {
+        PostDetailCache probe = new PostDetailCache(Long.MAX_VALUE, ReplicaConsistency.disabled(), objectMapper);
+        probe.put(1L, 0, ETAG, post(1L, "가".repeat(100)), 0);
+        long entryBytes = probe.getTotalBytes();
+
+        PostDetailCache cache = new PostDetailCache(entryBytes * 2, ReplicaConsistency.disabled(), objectMapper);
+        for (long postId = 1; postId <= 3; postId++) {
+            cache.put(postId, cache.getVersion(postId), ETAG, post(postId, "가".repeat(100)), 0);
+        }
+
+        assertThat(cache.get(1L, ETAG, 0)).isNull();
+        assertThat(cache.get(2L, ETAG, 0)).isNotNull();
+        assertThat(cache.get(3L, ETAG, 0)).isNotNull();
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(entryBytes * 2);
+    }
+
+    private PostResponse post(Long id, String content) {
+        OffsetDateTime now = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+        PostResponse response = new PostResponse(id, "제목", content, UUID.randomUUID(), 10, 0, now, now);
+        response.setAuthorNickname("작성자");
+        response.setComments(List.of());
+        return response;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.server.board.service;
+
+import com.example.server.board.exception.PostNotFoundException;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@BoardJpaTest
+class PostDetailServiceTest {
+
+    private static final long MISSING_POST_ID = 987_654_321L;
+
+    @Autowired
+    private PostDetailService postDetailService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private HotPostRanking hotPostRanking;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void getPostDetailJson_countsViewOnCacheMissAndHit() {
+        Long postId = fixtures.createPostWithComments("detail", 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        String etag = boardService.getPostETag(postId);
+        String first = new String(postDetailService.getPostDetailJson(postId, etag), StandardCharsets.UTF_8);
+        String second = new String(postDetailService.getPostDetailJson(postId, etag), StandardCharsets.UTF_8);
+
+        assertThat(first).contains("\"viewCount\":1");
+        assertThat(second).contains("\"viewCount\":2");
+        assertThat(viewCountService.getPendingCount(postId)).isEqualTo(2);
+    }
+
+    @Test
+    void missingPost_isNotCountedOrRanked() {
+        assertThatThrownBy(() -> postDetailService.getPostDetailJson(MISSING_POST_ID, "W/\"0-0-0\""))
+                .isInstanceOf(PostNotFoundException.class);
+        assertThatThrownBy(() -> postDetailService.recordView(MISSING_POST_ID))
+                .isInstanceOf(PostNotFoundException.class);
+
+        assertThat(viewCountService.getPendingCount(MISSING_POST_ID)).isZero();
+        assertThat(hotPostRanking.getScore(MISSING_POST_ID)).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.server.board.service;
+
+import com.example.server.board.event.BoardEvent;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BoardJpaTest
+class ViewCountServiceTest {
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 조회는_메모리에_쌓였다가_flush_때_한_번에_반영된다() {
+        Long first = fixtures.createPostWithComments("viewed-1", 0);
+        Long second = fixtures.createPostWithComments("viewed-2", 0);
+        entityManager.flush();
+
+        for (int i = 0; i < 3; i++) {
+            viewCountService.increase(first);
+        }
+        viewCountService.increase(second);
+        viewCountService.increase(second);
+
+        assertThat(viewCountService.getPendingCount(first)).isEqualTo(3);
+        assertThat(viewCount(first)).isZero();
+
+        viewCountService.flush();
+
+        assertThat(viewCount(first)).isEqualTo(3);
+        assertThat(viewCount(second)).isEqualTo(2);
+        assertThat(viewCountService.getPendingCount(first)).isZero();
+
+        // flush 이후의 조회는 다음 flush에 반영되고, 반영할 것이 없으면 아무것도 하지 않음
+        viewCountService.increase(first);
+        viewCountService.flush();
+        viewCountService.flush();
+        assertThat(viewCount(first)).isEqualTo(4);
+    }
+
+    @Test
+    void 카운터는_flush_후에도_남아있다가_조회가_없던_다음_flush에_정리된다() {
+        Long postId = fixtures.createPostWithComments("idle-view", 0);
+        entityManager.flush();
+        // 다른 테스트가 남긴 카운터를 먼저 정리
+        viewCountService.flush();
+        viewCountService.flush();
+        viewCountService.increase(postId);
+
+        viewCountService.flush();
+        assertThat(viewCountService.size()).isEqualTo(1);
+
+        viewCountService.flush();
+        assertThat(viewCountService.size()).isZero();
+
+        // 정리된 뒤의 조회는 새 카운터에 쌓임
+        viewCountService.increase(postId);
+        viewCountService.flush();
+        assertThat(viewCount(postId)).isEqualTo(2);
+    }
+
+    @Test
+    void 삭제된_게시글의_미반영_조회수는_버린다() {
+        Long postId = fixtures.createPostWithComments("deleted-view", 0);
+        entityManager.flush();
+        viewCountService.increase(postId);
+
+        viewCountService.onEvents(List.of(BoardEvent.postDeleted(postId)));
+
+        assertThat(viewCountService.getPendingCount(postId)).isZero();
+    }
+
+    @Test
+    void flush와_동시에_들어온_조회도_빠짐없이_반영된다() throws Exception {
+        // 게시글마다 조회가 드문드문 들어와야 flush가 증가분 0인 항목을 정리하는 경합이 자주 생김
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            postIds.add(fixtures.createPostWithComments("concurrent-" + i, 0));
+        }
+        entityManager.flush();
+
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    viewCountService.increase(postIds.get(i % postIds.size()));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        // 조회가 들어오는 동안 계속 flush
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            viewCountService.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        viewCountService.flush();
+
+        long total = 0;
+        for (Long postId : postIds) {
+            total += viewCount(postId);
+            assertThat(viewCountService.getPendingCount(postId)).isZero();
+        }
+        assertThat(total).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    private long viewCount(Long postId) {
+        return ((Number) entityManager.createNativeQuery("select view_count from posts where id = ?1")
+                .setParameter(1, postId)
+                .getSingleResult()).longValue();
+    }
+}
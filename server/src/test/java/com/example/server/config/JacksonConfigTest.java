@@ -0,0 +1,53 @@
+package com.example.server.config;
+
+import com.example.server.board.dto.CommentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class))
+            .withUserConfiguration(JacksonConfig.class);
+
+    @Test
+    void HTTP_converter와_공유_ObjectMapper가_같은_인스턴스다() {
+        contextRunner.run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            MappingJackson2HttpMessageConverter converter = context.getBean(HttpMessageConverters.class).getConverters().stream()
+                    .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                    .map(MappingJackson2HttpMessageConverter.class::cast)
+                    .findFirst()
+                    .orElseThrow();
+
+            assertThat(converter.getObjectMapper()).isSameAs(objectMapper);
+            assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+        });
+    }
+
+    @Test
+    void 날짜는_ISO_문자열로_한글은_그대로_직렬화한다() {
+        contextRunner.run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            CommentResponse comment = new CommentResponse(1L, "댓글", UUID.randomUUID(),
+                    OffsetDateTime.parse("2023-11-28T10:05:00Z"), null);
+
+            String json = objectMapper.writeValueAsString(comment);
+
+            assertThat(json).contains("\"createdAt\":\"2023-11-28T10:05:00Z\"");
+            assertThat(json).contains("\"content\":\"댓글\"");
+        });
+    }
+}
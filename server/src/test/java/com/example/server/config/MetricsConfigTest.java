@@ -0,0 +1,55 @@
+package com.example.server.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    MetricsConfigTest() {
+        registry.config().meterFilter(MetricsConfig.sloDistributionFilter(List.of(100L, 500L),
+                new double[]{0.5, 0.99}, List.of("http.server.requests", "board.")));
+    }
+
+    @Test
+    void 대상_타이머는_SLO_bucket과_percentile을_기록한다() {
+        Timer timer = registry.timer("http.server.requests", "uri", "/api/posts");
+        timer.record(Duration.ofMillis(80));
+        timer.record(Duration.ofMillis(300));
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        assertThat(bucketCount(snapshot, 100)).isEqualTo(1);
+        assertThat(bucketCount(snapshot, 500)).isEqualTo(2);
+        assertThat(snapshot.percentileValues()).hasSize(2);
+    }
+
+    @Test
+    void 대상이_아닌_타이머는_기본_설정을_유지한다() {
+        Timer timer = registry.timer("jvm.gc.pause");
+        timer.record(Duration.ofMillis(80));
+
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        assertThat(snapshot.histogramCounts()).isEmpty();
+        assertThat(snapshot.percentileValues()).isEmpty();
+    }
+
+    private static double bucketCount(HistogramSnapshot snapshot, long millis) {
+        double bound = TimeUnit.MILLISECONDS.toNanos(millis);
+        return Arrays.stream(snapshot.histogramCounts())
+                .filter(bucket -> bucket.bucket() == bound)
+                .mapToDouble(CountAtBucket::count)
+                .findFirst()
+                .orElseThrow();
+    }
+}
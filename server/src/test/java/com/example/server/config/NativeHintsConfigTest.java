@@ -0,0 +1,38 @@
+package com.example.server.config;
+
+import com.example.server.board.dto.PostResponse;
+import com.example.server.image.dto.gemini.InlineData;
+import com.example.server.image.dto.gemini.Part;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    @Test
+    void WebClient_DTO와_중첩_DTO에_binding_hint를_등록한다() throws NoSuchMethodException {
+        RuntimeHints hints = new RuntimeHints();
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, NativeHintsConfig.class);
+
+        // Part의 필드 타입(InlineData)까지 함께 등록되어야 Gemini 요청 본문이 직렬화됨
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Part.class.getMethod("getInlineData"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(InlineData.class.getMethod("getMimeType"))).accepts(hints);
+        // JPQL 생성자 표현식
+        assertThat(RuntimeHintsPredicates.reflection().onType(PostResponse.class)).accepts(hints);
+    }
+
+    @Test
+    void 캐시_항목과_JSON_컬럼의_Java_직렬화_hint를_등록한다() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHintsConfig.ServerRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.serialization()
+                .onType(TypeReference.of("org.hibernate.cache.spi.entry.StandardCacheEntryImpl"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.serialization()
+                .onType(TypeReference.of("com.fasterxml.jackson.databind.node.NodeSerialization"))).accepts(hints);
+    }
+}
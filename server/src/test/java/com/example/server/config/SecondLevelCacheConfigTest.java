@@ -0,0 +1,102 @@
+package com.example.server.config;
+
+import com.example.server.admin.dto.CacheRegionStatsResponse;
+import com.example.server.admin.service.CacheStatsService;
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.auth.service.AuthorNicknameCache;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2c;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:h2-init.sql",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SecondLevelCacheConfig.class, CacheStatsService.class, AuthorNicknameCache.class, ReplicaConsistency.class})
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @Autowired
+    private AuthorNicknameCache authorNicknameCache;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void authUserIsServedFromSecondLevelCache() {
+        UUID id = createUser("cached");
+
+        entityManager.find(AuthUser.class, id);
+        entityManager.clear();
+        statistics.clear();
+
+        AuthUser author = entityManager.find(AuthUser.class, id);
+
+        assertThat(author.getNickname()).isEqualTo("cached");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cacheStatsService.getSecondLevelCacheStats())
+                .filteredOn(stats -> stats.getRegion().equals(AuthUser.CACHE_REGION))
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.getHitCount()).isEqualTo(1);
+                    assertThat(stats.getHitRatio()).isEqualTo(1.0);
+                });
+    }
+
+    @Test
+    void nicknameEvictionAlsoEvictsAuthUserEntry() {
+        UUID id = createUser("before");
+        entityManager.find(AuthUser.class, id);
+        entityManager.clear();
+        assertThat(entityManagerFactory.getCache().contains(AuthUser.class, id)).isTrue();
+
+        authorNicknameCache.evict(id);
+
+        assertThat(entityManagerFactory.getCache().contains(AuthUser.class, id)).isFalse();
+    }
+
+    @Test
+    void regionsAreReported() {
+        assertThat(cacheStatsService.getSecondLevelCacheStats())
+                .extracting(CacheRegionStatsResponse::getRegion)
+                .contains(AuthUser.CACHE_REGION, User.CACHE_REGION);
+    }
+
+    private UUID createUser(String nickname) {
+        UUID id = UUID.randomUUID();
+        entityManager.createNativeQuery("insert into auth.users (id, raw_user_meta_data) values (?1, ?2 format json)")
+                .setParameter(1, id)
+                .setParameter(2, "{\"nickname\":\"" + nickname + "\"}")
+                .executeUpdate();
+        return id;
+    }
+}
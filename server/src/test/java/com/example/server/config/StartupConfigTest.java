@@ -0,0 +1,41 @@
+package com.example.server.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    @Test
+    void 지정한_패키지의_bean만_lazy로_만든다() {
+        new ApplicationContextRunner()
+                .withBean(StartupConfig.LazyPackagesPostProcessor.class,
+                        () -> new StartupConfig.LazyPackagesPostProcessor(List.of("java.util.concurrent.atomic.")))
+                .withBean("lazyCounter", LongAdder.class)
+                .withBean("eagerList", StringBuilder.class)
+                .run(context -> {
+                    assertThat(context.getBeanFactory().getBeanDefinition("lazyCounter").isLazyInit()).isTrue();
+                    assertThat(context.getBeanFactory().getBeanDefinition("eagerList").isLazyInit()).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("lazyCounter")).isFalse();
+                    // 처음 사용할 때 생성됨
+                    assertThat(context.getBean("lazyCounter")).isInstanceOf(LongAdder.class);
+                });
+    }
+
+    @Test
+    void 명시적으로_lazy를_지정한_bean은_그대로_둔다() {
+        new ApplicationContextRunner()
+                .withBean(StartupConfig.LazyPackagesPostProcessor.class,
+                        () -> new StartupConfig.LazyPackagesPostProcessor(List.of("java.util.concurrent.atomic.")))
+                .withBean("eagerCounter", AtomicLong.class, AtomicLong::new, definition -> definition.setLazyInit(false))
+                .run(context -> {
+                    assertThat(context.getBeanFactory().getBeanDefinition("eagerCounter").isLazyInit()).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("eagerCounter")).isTrue();
+                });
+    }
+}
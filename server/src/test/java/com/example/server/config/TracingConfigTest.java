@@ -0,0 +1,78 @@
+package com.example.server.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.observation.annotation.Observed;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.MicrometerTracingAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpTracingAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracingConfigTest {
+
+    // OTLP/HTTP collector 대신 요청 본문만 모으는 로컬 서버
+    private HttpServer collector;
+    private final List<String> receivedPaths = new CopyOnWriteArrayList<>();
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startCollector() throws IOException {
+        collector = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        collector.createContext("/", exchange -> {
+            receivedPaths.add(exchange.getRequestURI().getPath());
+            // protobuf 문자열 필드는 그대로 들어 있으므로 ISO-8859-1로 읽어서 포함 여부만 확인
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        collector.start();
+    }
+
+    @AfterEach
+    void stopCollector() {
+        collector.stop(0);
+    }
+
+    @Test
+    void Observed_서비스_메서드의_span을_OTLP_endpoint로_보낸다() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObservationAutoConfiguration.class, AopAutoConfiguration.class,
+                        OpenTelemetryAutoConfiguration.class, OpenTelemetryTracingAutoConfiguration.class,
+                        MicrometerTracingAutoConfiguration.class, OtlpTracingAutoConfiguration.class))
+                .withUserConfiguration(TracingConfig.class)
+                .withBean(SampleService.class)
+                .withPropertyValues(
+                        "management.otlp.tracing.endpoint=http://localhost:" + collector.getAddress().getPort() + "/v1/traces",
+                        "management.tracing.sampling.probability=1.0")
+                .run(context -> {
+                    context.getBean(SampleService.class).work();
+                    context.getBean(SdkTracerProvider.class).forceFlush().join(10, TimeUnit.SECONDS);
+
+                    assertThat(receivedPaths).contains("/v1/traces");
+                    assertThat(receivedBodies).anyMatch(body -> body.contains(SampleService.class.getName()));
+                });
+    }
+
+    @Observed
+    static class SampleService {
+
+        public void work() {
+        }
+    }
+}
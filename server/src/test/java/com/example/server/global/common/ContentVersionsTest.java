@@ -0,0 +1,184 @@
+package com.example.server.global.common;
+
+import com.example.server.board.dto.CommentCreateRequest;
+import com.example.server.board.dto.CommentResponse;
+import com.example.server.board.dto.CommentUpdateRequest;
+import com.example.server.board.service.BoardService;
+import com.example.server.global.repository.ContentVersionRepository;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.server.support.BoardFixtures.runAs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BoardJpaTest
+// 목록/전체 버전은 커밋 이후에 올라가므로 테스트 트랜잭션을 사용하지 않고, 만든 게시글은 테스트마다 지움
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContentVersionsTest {
+
+    @Autowired
+    private ContentVersions contentVersions;
+
+    @Autowired
+    private ContentVersionRepository contentVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> createdPostIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (createdPostIds.isEmpty()) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Comment c where c.post.id in :postIds")
+                    .setParameter("postIds", createdPostIds).executeUpdate();
+            entityManager.createQuery("delete from Post p where p.id in :postIds")
+                    .setParameter("postIds", createdPostIds).executeUpdate();
+        });
+    }
+
+    @Test
+    void 변경이_없으면_본문을_만들지_않고_304로_응답한다() {
+        String etag = contentVersions.getBoardETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board/posts");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<String> result = contentVersions.conditionalGet(new ServletWebRequest(request, response),
+                contentVersions::getBoardETag, current -> {
+                    throw new AssertionError("304 응답에서는 본문을 만들지 않음");
+                });
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+    }
+
+    @Test
+    void 버전이_바뀌면_새_ETag와_본문으로_응답한다() {
+        String etag = contentVersions.getBoardETag();
+        contentVersions.viewCountsFlushed();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/board/posts");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        ResponseEntity<String> result = contentVersions.conditionalGet(
+                new ServletWebRequest(request, new MockHttpServletResponse()), contentVersions::getBoardETag, current -> "body");
+
+        assertThat(result.getBody()).isEqualTo("body");
+        assertThat(result.getHeaders().getETag()).isEqualTo(contentVersions.getBoardETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void 다른_서버도_DB의_같은_버전으로_같은_ETag를_만든다() {
+        UUID userId = UUID.randomUUID();
+        ContentVersions otherServer = new ContentVersions(contentVersionRepository, transactionManager);
+
+        contentVersions.boardChanged(userId);
+        contentVersions.globalChanged();
+
+        assertThat(otherServer.getBoardETag()).isEqualTo(contentVersions.getBoardETag());
+        assertThat(otherServer.getUserETag(userId)).isEqualTo(contentVersions.getUserETag(userId));
+    }
+
+    @Test
+    void 목록_버전은_쓰기_트랜잭션이_커밋된_뒤에만_올라간다() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        String board = contentVersions.getBoardETag();
+
+        // 롤백되면 올리지 않음
+        transaction.executeWithoutResult(status -> {
+            contentVersions.viewCountsFlushed();
+            status.setRollbackOnly();
+        });
+        assertThat(contentVersions.getBoardETag()).isEqualTo(board);
+
+        // 쓰기 트랜잭션 안에서는 공유 버전 행을 잠그지 않고, 커밋 후에 올림
+        transaction.executeWithoutResult(status -> {
+            contentVersions.viewCountsFlushed();
+            assertThat(contentVersions.getBoardETag()).isEqualTo(board);
+        });
+        assertThat(contentVersions.getBoardETag()).isNotEqualTo(board);
+    }
+
+    @Test
+    void 댓글이_바뀌면_해당_게시글_목록_작성자의_ETag가_바뀐다() {
+        Long postId = createPost("etag");
+        Long otherPostId = createPost("etag-other");
+        UUID commenterId = new TransactionTemplate(transactionManager)
+                .execute(status -> fixtures.createUser("etag-commenter").getId());
+
+        String board = contentVersions.getBoardETag();
+        String post = boardService.getPostETag(postId);
+        String otherPost = boardService.getPostETag(otherPostId);
+        String user = contentVersions.getUserETag(commenterId);
+
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setContent("etag comment");
+        CommentResponse comment = runAs(commenterId, () -> boardService.createComment(postId, request));
+
+        String createdBoard = contentVersions.getBoardETag();
+        String createdPost = boardService.getPostETag(postId);
+        String createdUser = contentVersions.getUserETag(commenterId);
+        assertThat(createdBoard).isNotEqualTo(board);
+        assertThat(createdPost).isNotEqualTo(post);
+        assertThat(createdUser).isNotEqualTo(user);
+        assertThat(boardService.getPostETag(otherPostId)).isEqualTo(otherPost);
+
+        // 댓글 수정은 댓글 수가 그대로여도 상세/작성자 ETag를 바꾸고, 목록 ETag는 그대로 둠
+        CommentUpdateRequest update = new CommentUpdateRequest();
+        update.setContent("etag comment edited");
+        runAs(commenterId, () -> boardService.updateComment(postId, comment.getId(), update));
+
+        assertThat(boardService.getPostETag(postId)).isNotEqualTo(createdPost);
+        assertThat(contentVersions.getUserETag(commenterId)).isNotEqualTo(createdUser);
+        assertThat(contentVersions.getBoardETag()).isEqualTo(createdBoard);
+    }
+
+    @Test
+    void 조회수_반영은_목록_ETag만_바꾼다() {
+        Long postId = createPost("etag-views");
+        String board = contentVersions.getBoardETag();
+        String post = boardService.getPostETag(postId);
+
+        contentVersions.viewCountsFlushed();
+
+        assertThat(contentVersions.getBoardETag()).isNotEqualTo(board);
+        assertThat(boardService.getPostETag(postId)).isEqualTo(post);
+    }
+
+    private Long createPost(String prefix) {
+        Long postId = new TransactionTemplate(transactionManager).execute(status -> fixtures.createPostWithComments(prefix, 0));
+        createdPostIds.add(postId);
+        return postId;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.server.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final ReplicaConsistency replicaConsistency = new ReplicaConsistency(List.of("replica"), 60_000);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        replicaConsistency.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica_writesGoToPrimary() {
+        Routed routed = routed(database("primary-1"), database("replica-1"));
+
+        assertThat(routed.whereAmI(true)).isEqualTo("primary-1");
+        assertThat(routed.whereAmI(false)).isEqualTo("replica-1");
+    }
+
+    @Test
+    void userReadsFromPrimaryAfterOwnWrite() {
+        Routed routed = routed(database("primary-2"), database("replica-2"));
+
+        loginAs("writer");
+        routed.whereAmI(true);
+        assertThat(routed.whereAmI(false)).isEqualTo("primary-2");
+
+        // 다른 사용자는 계속 복제본에서 읽음
+        loginAs("reader");
+        assertThat(routed.whereAmI(false)).isEqualTo("replica-2");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:mem:missing-replica;IFEXISTS=TRUE");
+        Routed routed = routed(database("primary-3"), broken);
+
+        assertThat(routed.whereAmI(false)).isEqualTo("primary-3");
+        assertThat(routed.routing.getHealthyReplicaCount()).isZero();
+
+        routed.routing.checkHealth();
+        assertThat(routed.routing.getHealthyReplicaCount()).isZero();
+    }
+
+    @Test
+    void connectionWithCredentialsGoesToPrimary() throws SQLException {
+        Routed routed = routed(database("primary-4"), database("replica-4"));
+
+        try (Connection connection = routed.routing.getConnection("", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select name from marker")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getString(1)).isEqualTo("primary-4");
+        }
+    }
+
+    private Routed routed(DataSource primary, DataSource replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), replicaConsistency, "", 1000);
+        return new Routed(routing, new LazyConnectionDataSourceProxy(routing));
+    }
+
+    // 데이터베이스마다 자기 이름을 저장해두고, 어느 쪽에서 읽었는지 확인
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table marker (name varchar(32))");
+        jdbcTemplate.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static void loginAs(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
+    private record Routed(ReplicaRoutingDataSource routing, DataSource dataSource) {
+
+        String whereAmI(boolean write) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transactionTemplate.setReadOnly(!write);
+            return transactionTemplate.execute(status ->
+                    new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.server.global.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRingBufferTest {
+
+    @Test
+    void 모든_소비자가_모든_이벤트를_발행_순서대로_받는다() throws InterruptedException {
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        Map<String, EventRingBuffer.BatchHandler<Integer>> handlers = new LinkedHashMap<>();
+        handlers.put("first", first::addAll);
+        handlers.put("second", second::addAll);
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(16, 4, handlers, Thread::new);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(buffer.publish(i, TimeUnit.SECONDS.toNanos(5))).isTrue();
+        }
+        buffer.shutdown(5000);
+
+        List<Integer> expected = IntStream.range(0, 1000).boxed().toList();
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+        assertThat(buffer.getPublishedCount()).isEqualTo(1000);
+        assertThat(buffer.getConsumerStats()).allSatisfy(stats -> {
+            assertThat(stats.getLag()).isZero();
+            assertThat(stats.getProcessed()).isEqualTo(1000);
+            assertThat(stats.getMaxBatchSize()).isLessThanOrEqualTo(4);
+        });
+    }
+
+    @Test
+    void 느린_소비자_때문에_버퍼가_가득_차면_이벤트를_버린다() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4, 1, Map.of("slow", batch -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.addAll(batch);
+        }), Thread::new);
+
+        buffer.publish(0, 0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 처리 중인 0번을 포함해서 한 바퀴(4개)까지만 들어감
+        for (int i = 1; i < 4; i++) {
+            assertThat(buffer.publish(i, 0)).isTrue();
+        }
+        assertThat(buffer.publish(4, 0)).isFalse();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+
+        release.countDown();
+        buffer.shutdown(5000);
+        assertThat(received).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void 모든_소비자가_읽은_슬롯만_비운다() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> fast = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> slow = Collections.synchronizedList(new ArrayList<>());
+        Map<String, EventRingBuffer.BatchHandler<Integer>> handlers = new LinkedHashMap<>();
+        handlers.put("fast", fast::addAll);
+        handlers.put("slow", batch -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slow.addAll(batch);
+        });
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(8, 1, handlers, Thread::new);
+
+        buffer.publish(0, 0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < 4; i++) {
+            buffer.publish(i, 0);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (fast.size() < 4 && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        // 느린 소비자가 읽기 전인 이벤트는 남아 있음 (처리 중인 0번은 이미 읽어서 비워짐)
+        assertThat(fast).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.getRetainedCount()).isEqualTo(3);
+
+        release.countDown();
+        buffer.shutdown(5000);
+        assertThat(slow).containsExactly(0, 1, 2, 3);
+        assertThat(buffer.getRetainedCount()).isZero();
+    }
+
+    @Test
+    void 핸들러가_실패해도_다음_이벤트를_계속_처리한다() throws InterruptedException {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(8, 1, Map.of("failing", batch -> {
+            if (batch.contains(1)) {
+                throw new IllegalStateException("실패");
+            }
+            received.addAll(batch);
+        }), Thread::new);
+
+        for (int i = 0; i < 3; i++) {
+            buffer.publish(i, TimeUnit.SECONDS.toNanos(5));
+        }
+        buffer.shutdown(5000);
+
+        assertThat(received).containsExactly(0, 2);
+        assertThat(buffer.getConsumerStats().get(0).getErrors()).isEqualTo(1);
+        assertThat(buffer.publish(3, 0)).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.server.global.exception;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.server.board.exception.NoPermissionException;
+import com.example.server.board.exception.PostNotFoundException;
+import com.example.server.global.common.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainExceptionTest {
+
+    @Test
+    void 스택_트레이스_없이_만들고_응답은_재사용한다() {
+        PostNotFoundException first = new PostNotFoundException(1L);
+        PostNotFoundException second = new PostNotFoundException(2L);
+
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(first.getPostId()).isEqualTo(1L);
+
+        ResponseEntity<ErrorResponse> response = first.toResponse();
+        assertThat(second.toResponse()).isSameAs(response);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getMessage()).isEqualTo("게시글을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 예외_종류와_메시지별로_응답을_따로_만든다() {
+        ResponseEntity<ErrorResponse> update = new NoPermissionException("게시글 수정 권한이 없습니다.").toResponse();
+        ResponseEntity<ErrorResponse> delete = new NoPermissionException("게시글 삭제 권한이 없습니다.").toResponse();
+
+        assertThat(update).isNotSameAs(delete);
+        assertThat(update.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(delete.getBody().getMessage()).isEqualTo("게시글 삭제 권한이 없습니다.");
+    }
+
+    @Test
+    void 초당_한도를_넘는_오류는_개수만_센다() {
+        UnexpectedErrorLogger logger = new UnexpectedErrorLogger(2, 16);
+        try {
+            for (int i = 0; i < 5; i++) {
+                logger.log("GET", "/api/test", new IllegalStateException("실패"));
+            }
+            // 1초 window 경계에 걸리면 한도가 초기화될 수 있으므로 최소 개수만 확인
+            assertThat(logger.getSuppressedCount()).isBetween(1L, 3L);
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    void 요청_스레드의_trace_정보를_로그에_남긴다() {
+        Logger logbackLogger = (Logger) LoggerFactory.getLogger(UnexpectedErrorLogger.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logbackLogger.addAppender(appender);
+        UnexpectedErrorLogger logger = new UnexpectedErrorLogger(10, 16);
+        try {
+            MDC.put("traceId", "trace-1");
+            MDC.put("spanId", "span-1");
+            logger.log("GET", "/api/test", new IllegalStateException("실패"));
+        } finally {
+            MDC.clear();
+            // 종료하면서 버퍼에 남은 로그를 모두 처리함
+            logger.shutdown();
+            logbackLogger.detachAppender(appender);
+        }
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getThreadName()).startsWith("error-log-");
+            assertThat(event.getMDCPropertyMap())
+                    .containsEntry("traceId", "trace-1")
+                    .containsEntry("spanId", "span-1");
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.server.global.warmup;
+
+import com.example.server.config.SupabaseProperties;
+import com.example.server.global.jwt.JwtUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StartupWarmupTest {
+
+    @Test
+    void 실패한_단계는_제외하고_나머지를_반복한다() {
+        List<String> calls = new ArrayList<>();
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("ok", () -> calls.add("ok"));
+        steps.put("failing", () -> {
+            throw new IllegalStateException("DB 연결 실패");
+        });
+
+        int rounds = StartupWarmup.repeat(steps, 3, Long.MAX_VALUE, () -> 0L);
+
+        assertThat(rounds).isEqualTo(3);
+        assertThat(calls).containsExactly("ok", "ok", "ok");
+        assertThat(steps).containsOnlyKeys("ok");
+    }
+
+    @Test
+    void 예산_시간이_지나면_반복을_멈춘다() {
+        AtomicLong now = new AtomicLong();
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("slow", () -> now.addAndGet(40));
+
+        int rounds = StartupWarmup.repeat(steps, 1000, 100, now::get);
+
+        assertThat(rounds).isEqualTo(3);
+    }
+
+    @Test
+    void 풀마다_요청한_개수만큼_커넥션을_미리_연다() {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setJdbcUrl("jdbc:h2:mem:warmup;DB_CLOSE_DELAY=-1");
+            pool.setMinimumIdle(0);
+            pool.setMaximumPoolSize(5);
+
+            assertThat(StartupWarmup.primeConnections(pool, 3)).isEqualTo(3);
+            assertThat(pool.getHikariPoolMXBean().getTotalConnections()).isEqualTo(3);
+            assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        }
+    }
+
+    @Test
+    void 임시_키로_서명한_토큰은_주어진_키로만_검증되고_키_캐시에_남지_않는다() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(new SupabaseProperties(), WebClient.builder(), meterRegistry, ObservationRegistry.NOOP);
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        UUID userId = UUID.randomUUID();
+        String token = Jwts.builder()
+                .header().keyId("warmup").and()
+                .subject(userId.toString())
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        assertThat(jwtUtil.getClaims(token, keyPair.getPublic()).getSubject()).isEqualTo(userId.toString());
+        assertThatThrownBy(() -> jwtUtil.getClaims(token, Jwts.SIG.ES256.keyPair().build().getPublic()))
+                .isInstanceOf(RuntimeException.class);
+
+        // 일반 검증 경로는 임시 키를 모름 (JWKS에서 찾으려다 실패함, jwks-url 미설정)
+        assertThat(meterRegistry.get("jwt.key.cache.size").gauge().value()).isZero();
+        assertThatThrownBy(() -> jwtUtil.getUserId(token)).isInstanceOf(RuntimeException.class);
+    }
+}
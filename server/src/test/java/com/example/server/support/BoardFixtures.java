@@ -0,0 +1,66 @@
+package com.example.server.support;
+
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.board.entity.Comment;
+import com.example.server.board.entity.Post;
+import jakarta.persistence.EntityManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 게시판 테스트 데이터 생성 (현재 테스트 트랜잭션의 EntityManager 사용)
+ */
+public class BoardFixtures {
+
+    private final EntityManager entityManager;
+
+    public BoardFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 게시글과 댓글 생성 (제목: prefix + " title", 작성자 닉네임: prefix + "-writer", 댓글 작성자: prefix + "-commenter-" + i)
+     */
+    public Long createPostWithComments(String prefix, int commentCount) {
+        Post post = new Post();
+        post.setTitle(prefix + " title");
+        post.setContent(prefix + " content");
+        post.setAuthor(createUser(prefix + "-writer"));
+        entityManager.persist(post);
+
+        for (int i = 0; i < commentCount; i++) {
+            Comment comment = new Comment();
+            comment.setContent(prefix + " comment " + i);
+            comment.setAuthor(createUser(prefix + "-commenter-" + i));
+            comment.setPost(post);
+            entityManager.persist(comment);
+        }
+        return post.getId();
+    }
+
+    public AuthUser createUser(String nickname) {
+        UUID id = UUID.randomUUID();
+        entityManager.createNativeQuery("insert into auth.users (id, raw_user_meta_data) values (?1, ?2 format json)")
+                .setParameter(1, id)
+                .setParameter(2, "{\"nickname\":\"" + nickname + "\"}")
+                .executeUpdate();
+        return entityManager.getReference(AuthUser.class, id);
+    }
+
+    /**
+     * userId로 로그인한 상태로 실행
+     */
+    public static <T> T runAs(UUID userId, Supplier<T> action) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
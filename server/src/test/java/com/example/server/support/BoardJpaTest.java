@@ -0,0 +1,30 @@
+package com.example.server.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 게시판 서비스 테스트용 JPA slice (H2 + 게시판/통계 서비스 빈 구성)
+ * 같은 설정을 쓰는 테스트 클래스끼리 컨텍스트를 공유함
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:board;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:h2-init.sql",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BoardTestConfiguration.class)
+public @interface BoardJpaTest {
+}
@@ -0,0 +1,40 @@
+package com.example.server.support;
+
+import com.example.server.auth.service.AuthorNicknameCache;
+import com.example.server.board.event.BoardEventBus;
+import com.example.server.board.repository.PostViewCountRepository;
+import com.example.server.board.service.BoardMetrics;
+import com.example.server.board.service.BoardSearchService;
+import com.example.server.board.service.BoardService;
+import com.example.server.board.service.CommentFeedBroker;
+import com.example.server.board.service.HotPostRanking;
+import com.example.server.board.service.PostDetailCache;
+import com.example.server.board.service.PostDetailService;
+import com.example.server.board.service.ViewCountService;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.global.repository.ContentVersionRepository;
+import com.example.server.user.repository.UserStatsCounterRepository;
+import com.example.server.user.service.UserStatsService;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 게시판 서비스와 게시판 이벤트 구독자(조회수, 검색 색인, 랭킹, 통계, 메트릭) 빈 구성
+ * 새 서비스 테스트는 테스트 클래스마다 목록을 늘리지 않고 @BoardJpaTest를 사용
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class,
+        ObservationAutoConfiguration.class})
+@Import({BoardService.class, AuthorNicknameCache.class, ViewCountService.class, BoardSearchService.class,
+        PostDetailService.class, PostDetailCache.class, ContentVersions.class, ContentVersionRepository.class,
+        CommentFeedBroker.class, HotPostRanking.class, PostViewCountRepository.class, ReplicaConsistency.class,
+        BoardEventBus.class, UserStatsService.class, UserStatsCounterRepository.class, BoardMetrics.class,
+        BoardFixtures.class, StatementCounter.class})
+public class BoardTestConfiguration {
+}
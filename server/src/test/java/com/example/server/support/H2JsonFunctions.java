@@ -0,0 +1,24 @@
+package com.example.server.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * H2에서 PostgreSQL JSON 함수를 대신하는 사용자 정의 함수
+ */
+public class H2JsonFunctions {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private H2JsonFunctions() {
+        // 인스턴스화 방지
+    }
+
+    public static String extractPathText(String json, String key) throws Exception {
+        if (json == null) {
+            return null;
+        }
+        JsonNode node = OBJECT_MAPPER.readTree(json).get(key);
+        return node != null ? node.asText() : null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * DataSource에서 실행된 SQL 문 (JPA와 JdbcTemplate 모두 포함, 배치는 실행 한 번을 1로 셈)
+ * Hibernate Statistics는 JdbcTemplate으로 실행한 통계/버전 UPDATE를 세지 않으므로 쿼리 수 검증에 사용
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .afterQuery((execInfo, queryInfoList) -> statements.add(queryInfoList.get(0).getQuery()))
+                    .build();
+        }
+        return bean;
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public long getCount() {
+        return statements.size();
+    }
+
+    // 실행 순서대로의 SQL (배치는 첫 문장)
+    public List<String> getStatements() {
+        return List.copyOf(statements);
+    }
+}
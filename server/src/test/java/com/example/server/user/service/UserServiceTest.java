@@ -0,0 +1,129 @@
+package com.example.server.user.service;
+
+import com.example.server.auth.entity.AuthUser;
+import com.example.server.auth.service.AuthorNicknameCache;
+import com.example.server.board.dto.CursorPageResponse;
+import com.example.server.board.entity.Comment;
+import com.example.server.board.entity.Post;
+import com.example.server.board.service.PostDetailCache;
+import com.example.server.global.common.ContentVersions;
+import com.example.server.global.datasource.ReplicaConsistency;
+import com.example.server.global.repository.ContentVersionRepository;
+import com.example.server.user.dto.CommentSummary;
+import com.example.server.user.dto.PostSummary;
+import com.example.server.user.repository.UserStatsCounterRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:h2-init.sql",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({UserService.class, AuthorNicknameCache.class, PostDetailCache.class, ContentVersions.class,
+        ContentVersionRepository.class, ReplicaConsistency.class, UserStatsService.class, UserStatsCounterRepository.class})
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getMyPosts_walksOnlyOwnPostsNewestFirst_withOneQueryPerPage() {
+        AuthUser me = createUser("me");
+        AuthUser other = createUser("other");
+        for (int i = 0; i < 5; i++) {
+            createPost(me, "mine " + i);
+            createPost(other, "theirs " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        CursorPageResponse<PostSummary> first = userService.getMyPosts(me.getId(), null, 3);
+        long firstQueries = statistics.getPrepareStatementCount();
+        CursorPageResponse<PostSummary> second = userService.getMyPosts(me.getId(), first.getNextCursor(), 3);
+
+        assertThat(first.getContent()).extracting(PostSummary::getTitle)
+                .containsExactly("mine 4", "mine 3", "mine 2");
+        assertThat(second.getContent()).extracting(PostSummary::getTitle)
+                .containsExactly("mine 1", "mine 0");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(firstQueries).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getMyComments_joinsPostTitleInSameQuery() {
+        AuthUser me = createUser("me");
+        AuthUser writer = createUser("writer");
+        Post post = createPost(writer, "원글");
+        for (int i = 0; i < 3; i++) {
+            Comment comment = new Comment();
+            comment.setContent("comment " + i);
+            comment.setAuthor(me);
+            comment.setPost(post);
+            entityManager.persist(comment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        CursorPageResponse<CommentSummary> page = userService.getMyComments(me.getId(), null, 10);
+
+        assertThat(page.getContent()).extracting(CommentSummary::getContent)
+                .containsExactly("comment 2", "comment 1", "comment 0");
+        assertThat(page.getContent()).extracting(CommentSummary::getPostTitle).containsOnly("원글");
+        assertThat(page.getContent()).extracting(CommentSummary::getPostId).containsOnly(post.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Post createPost(AuthUser author, String title) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(title + " content");
+        post.setAuthor(author);
+        entityManager.persist(post);
+        return post;
+    }
+
+    private AuthUser createUser(String nickname) {
+        UUID id = UUID.randomUUID();
+        entityManager.createNativeQuery("insert into auth.users (id, raw_user_meta_data) values (?1, ?2 format json)")
+                .setParameter(1, id)
+                .setParameter(2, "{\"nickname\":\"" + nickname + "\"}")
+                .executeUpdate();
+        return entityManager.getReference(AuthUser.class, id);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.server.user.service;
+
+import com.example.server.board.dto.CommentCreateRequest;
+import com.example.server.board.dto.PostCreateRequest;
+import com.example.server.board.service.BoardService;
+import com.example.server.board.service.ViewCountService;
+import com.example.server.support.BoardFixtures;
+import com.example.server.support.BoardJpaTest;
+import com.example.server.user.dto.UserStatsResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static com.example.server.support.BoardFixtures.runAs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BoardJpaTest
+class UserStatsServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoardFixtures fixtures;
+
+    @Test
+    void userStats_followPostCommentAndViewChanges() {
+        UUID writerId = fixtures.createUser("stats-writer").getId();
+        UUID commenterId = fixtures.createUser("stats-commenter").getId();
+
+        PostCreateRequest postRequest = new PostCreateRequest();
+        postRequest.setTitle("stats title");
+        postRequest.setContent("stats content");
+        Long postId = runAs(writerId, () -> boardService.createPost(postRequest)).getId();
+        CommentCreateRequest commentRequest = new CommentCreateRequest();
+        commentRequest.setContent("stats comment");
+        runAs(commenterId, () -> boardService.createComment(postId, commentRequest));
+        runAs(commenterId, () -> boardService.createComment(postId, commentRequest));
+        // JdbcTemplate으로 갱신하는 통계 SQL이 댓글 INSERT를 볼 수 있도록 반영 (운영에서는 요청마다 커밋됨)
+        entityManager.flush();
+        viewCountService.increase(postId);
+        viewCountService.flush();
+
+        // 조회수 합계는 캐시 TTL 동안 이전 값이 보일 수 있으므로 DB 값으로 확인
+        assertThat(userStatsService.getStats(commenterId)).extracting(UserStatsResponse::getCommentCount).isEqualTo(2L);
+        assertThat(entityManager.createQuery("select s.postCount, s.totalViews from UserStats s where s.userId = :userId", Object[].class)
+                .setParameter("userId", writerId).getSingleResult()).containsExactly(1L, 1L);
+
+        runAs(writerId, () -> {
+            boardService.deletePost(postId);
+            return null;
+        });
+
+        UserStatsResponse writer = userStatsService.getStats(writerId);
+        UserStatsResponse commenter = userStatsService.getStats(commenterId);
+        assertThat(writer.getPostCount()).isZero();
+        assertThat(writer.getTotalViews()).isZero();
+        assertThat(commenter.getCommentCount()).isZero();
+    }
+}
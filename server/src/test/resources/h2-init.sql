@@ -0,0 +1,3 @@
+-- 테스트용 H2 초기화: Supabase auth 스키마와 PostgreSQL JSON 함수 흉내
+CREATE SCHEMA IF NOT EXISTS auth;
+CREATE ALIAS IF NOT EXISTS jsonb_extract_path_text FOR 'com.example.server.support.H2JsonFunctions.extractPathText';